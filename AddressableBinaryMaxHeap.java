@@ -0,0 +1,269 @@
+package assign10;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary Max Heap implementing AddressablePriorityQueue.
+ * Every entry remembers its own index in the backing array, and both percolate
+ * loops write that index back as they move entries, so a handle can be located
+ * in O(1) and reprioritized or removed in O(log N).
+ * @author Maxwell and Cooper
+ * @version April 6, 2025
+ */
+public class AddressableBinaryMaxHeap<E> implements AddressablePriorityQueue<E> {
+	private Comparator<? super E> cmp;
+	private Node<E>[] list;
+	private int size;
+
+	/**
+	 * Entry in the backing array, and the handle given out for it. index is 0 once
+	 * the entry has left the heap.
+	 */
+	private static class Node<E> implements Handle<E> {
+		private E item;
+		private int index;
+		private Object owner;
+
+		private Node(E item, Object owner) {
+			this.item = item;
+			this.owner = owner;
+		}
+
+		public E get() {
+			return item;
+		}
+
+		public boolean isValid() {
+			return index > 0;
+		}
+	}
+
+	/**
+	 * Constructor which takes a custom comparator
+	 * @param cmp Custom Comparator
+	 */
+	@SuppressWarnings("unchecked")
+	public AddressableBinaryMaxHeap(Comparator<? super E> cmp) {
+		this.cmp = cmp;
+		list = (Node<E>[]) new Node[16];
+		size = 0;
+	}
+
+	/**
+	 * Basic constructor
+	 */
+	@SuppressWarnings("unchecked")
+	public AddressableBinaryMaxHeap() {
+		this((Comparator<? super E>) Comparator.naturalOrder());
+	}
+
+	/**
+	 * Adds the given item to this priority queue. O(1) in the average case, O(log
+	 * N) in the worst case
+	 * 
+	 * @param item
+	 */
+	public void add(E item) {
+		insert(item);
+	}
+
+	/**
+	 * Adds the given item to this priority queue and returns a handle to it. O(1)
+	 * in the average case, O(log N) in the worst case
+	 * 
+	 * @param item
+	 * @return a handle to the added item
+	 */
+	public Handle<E> insert(E item) {
+		size++;
+		if (size >= list.length)
+			list = Arrays.copyOf(list, list.length * 2);
+		Node<E> node = new Node<>(item, this);
+		list[size] = node;
+		node.index = size;
+		percolateUp(size);
+		return node;
+	}
+
+	/**
+	 * Returns, but does not remove, the maximum item this priority queue. O(1)
+	 * 
+	 * @return the maximum item
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public E peek() throws NoSuchElementException {
+		return peekHandle().get();
+	}
+
+	/**
+	 * Returns a handle to the maximum item in this priority queue. O(1)
+	 * 
+	 * @return a handle to the maximum item
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public Handle<E> peekHandle() throws NoSuchElementException {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return list[1];
+	}
+
+	/**
+	 * Returns and removes the maximum item this priority queue. O(log N)
+	 * 
+	 * @return the maximum item
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public E extractMax() throws NoSuchElementException {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return removeAt(1);
+	}
+
+	/**
+	 * Restores the item's position after its priority was changed in place. O(log N)
+	 * 
+	 * @param handle a valid handle from this queue
+	 * @throws IllegalArgumentException if the handle is not valid for this queue
+	 */
+	public void changePriority(Handle<E> handle) {
+		int index = indexOf(handle);
+		if (percolateUp(index) == index)
+			percolateDown(index);
+	}
+
+	/**
+	 * Replaces the item behind the handle and moves it to its new position. O(log N)
+	 * 
+	 * @param handle a valid handle from this queue
+	 * @param item the replacement item
+	 * @throws IllegalArgumentException if the handle is not valid for this queue
+	 */
+	public void changePriority(Handle<E> handle, E item) {
+		int index = indexOf(handle);
+		list[index].item = item;
+		if (percolateUp(index) == index)
+			percolateDown(index);
+	}
+
+	/**
+	 * Removes the item behind the handle and invalidates the handle. O(log N)
+	 * 
+	 * @param handle a valid handle from this queue
+	 * @return the removed item
+	 * @throws IllegalArgumentException if the handle is not valid for this queue
+	 */
+	public E remove(Handle<E> handle) {
+		return removeAt(indexOf(handle));
+	}
+
+	/**
+	 * Returns the number of items in this priority queue. O(1)
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if this priority queue is empty, false otherwise. O(1)
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Empties this priority queue of items and invalidates every handle. O(N)
+	 */
+	public void clear() {
+		for (int i = 1; i <= size; i++) {
+			list[i].index = 0;
+			list[i] = null;
+		}
+		size = 0;
+	}
+
+	/**
+	 * Creates and returns an array of the items in this priority queue, in the same
+	 * order they appear in the backing array. O(N)
+	 * 
+	 * (NOTE: This method is needed for grading purposes. The root item must be
+	 * stored at index 0 in the returned array, regardless of whether it is stored
+	 * there in the backing array.)
+	 */
+	public Object[] toArray() {
+		Object[] array = new Object[size];
+		for (int i = 0; i < size; i++)
+			array[i] = list[i + 1].item;
+		return array;
+	}
+
+	/**
+	 * Checks that the handle came from this heap and is still in it.
+	 * @param handle The handle to look up
+	 * @return The current index of the handle's entry
+	 */
+	private int indexOf(Handle<E> handle) {
+		if (!(handle instanceof Node) || ((Node<E>) handle).owner != this || !handle.isValid())
+			throw new IllegalArgumentException("Handle is not in this heap");
+		return ((Node<E>) handle).index;
+	}
+
+	/**
+	 * Removes the entry at the given index, filling the gap with the last entry.
+	 * @param index The index to remove
+	 * @return The removed item
+	 */
+	private E removeAt(int index) {
+		Node<E> removed = list[index];
+		Node<E> last = list[size];
+		list[size--] = null;
+		removed.index = 0;
+		if (last != removed) {
+			list[index] = last;
+			last.index = index;
+			if (percolateUp(index) == index)
+				percolateDown(index);
+		}
+		return removed.item;
+	}
+
+	/**
+	 * Moves the entry at index up until its parent is not smaller, keeping every
+	 * moved entry's index in sync.
+	 * @param index The index of an out-of-place entry
+	 * @return The index the entry ended up at
+	 */
+	private int percolateUp(int index) {
+		Node<E> node = list[index];
+		while (index > 1 && cmp.compare(list[index / 2].item, node.item) < 0) {
+			list[index] = list[index / 2];
+			list[index].index = index;
+			index = index / 2;
+		}
+		list[index] = node;
+		node.index = index;
+		return index;
+	}
+
+	/**
+	 * Moves the entry at index down until neither child is larger, keeping every
+	 * moved entry's index in sync.
+	 * @param index The index of an out-of-place entry
+	 */
+	private void percolateDown(int index) {
+		Node<E> node = list[index];
+		int child;
+		while ((child = index * 2) <= size) {
+			if (child < size && cmp.compare(list[child].item, list[child + 1].item) < 0)
+				child++;
+			if (cmp.compare(list[child].item, node.item) <= 0)
+				break;
+			list[index] = list[child];
+			list[index].index = index;
+			index = child;
+		}
+		list[index] = node;
+		node.index = index;
+	}
+}
@@ -0,0 +1,101 @@
+package assign10;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import assign10.AddressablePriorityQueue.Handle;
+
+class AddressableBinaryMaxHeapTest {
+	private AddressableBinaryMaxHeap<Integer> heap;
+
+	@BeforeEach
+	void setUp() {
+		heap = new AddressableBinaryMaxHeap<Integer>();
+	}
+
+	@Test
+	void testInsertReturnsValidHandle() {
+		Handle<Integer> handle = heap.insert(5);
+		assertTrue(handle.isValid());
+		assertEquals(5, handle.get());
+		assertSame(handle, heap.peekHandle());
+	}
+
+	@Test
+	void testExtractInvalidatesHandle() {
+		Handle<Integer> handle = heap.insert(5);
+		heap.insert(3);
+		assertEquals(5, heap.extractMax());
+		assertFalse(handle.isValid());
+		assertThrows(IllegalArgumentException.class, () -> heap.remove(handle));
+	}
+
+	@Test
+	void testIncreasePriority() {
+		for (int i = 0; i < 10; i++)
+			heap.insert(i);
+		Handle<Integer> low = heap.insert(-1);
+		heap.changePriority(low, 100);
+		assertEquals(100, heap.peek());
+		assertSame(low, heap.peekHandle());
+	}
+
+	@Test
+	void testDecreasePriority() {
+		Handle<Integer> top = heap.insert(100);
+		for (int i = 0; i < 10; i++)
+			heap.insert(i);
+		heap.changePriority(top, -1);
+		for (int i = 9; i >= 0; i--)
+			assertEquals(i, heap.extractMax());
+		assertEquals(-1, heap.extractMax());
+		assertTrue(heap.isEmpty());
+	}
+
+	@Test
+	void testChangePriorityInPlace() {
+		AddressableBinaryMaxHeap<int[]> boxes = new AddressableBinaryMaxHeap<>((a, b) -> Integer.compare(a[0], b[0]));
+		Handle<int[]> first = boxes.insert(new int[] { 1 });
+		boxes.insert(new int[] { 2 });
+		boxes.insert(new int[] { 3 });
+		first.get()[0] = 10;
+		boxes.changePriority(first);
+		assertSame(first, boxes.peekHandle());
+	}
+
+	@Test
+	void testRemoveMiddle() {
+		Handle<Integer> five = null;
+		for (int i = 0; i < 10; i++) {
+			Handle<Integer> h = heap.insert(i);
+			if (i == 5)
+				five = h;
+		}
+		assertEquals(5, heap.remove(five));
+		assertFalse(five.isValid());
+		assertEquals(9, heap.size());
+		for (int i = 9; i >= 0; i--)
+			if (i != 5)
+				assertEquals(i, heap.extractMax());
+	}
+
+	@Test
+	void testHandleFromOtherHeapRejected() {
+		AddressableBinaryMaxHeap<Integer> other = new AddressableBinaryMaxHeap<>();
+		Handle<Integer> foreign = other.insert(1);
+		heap.insert(1);
+		assertThrows(IllegalArgumentException.class, () -> heap.changePriority(foreign, 2));
+	}
+
+	@Test
+	void testClearInvalidatesHandles() {
+		Handle<Integer> handle = heap.insert(1);
+		heap.clear();
+		assertFalse(handle.isValid());
+		assertThrows(NoSuchElementException.class, () -> heap.peek());
+	}
+}
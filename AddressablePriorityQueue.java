@@ -0,0 +1,85 @@
+package assign10;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A priority queue whose items can be found again after they are added.
+ * insert returns a handle to the item which stays valid until the item is
+ * extracted or removed, and through which the item can be reprioritized or
+ * cancelled without rebuilding the queue.
+ * 
+ * NOTE: The item with the highest priority is the "maximum" item.
+ * 
+ * @author Maxwell and Cooper
+ * @version April 6, 2025
+ *
+ * @param <E>
+ */
+public interface AddressablePriorityQueue<E> extends PriorityQueue<E> {
+
+	/**
+	 * A reference to one item in an AddressablePriorityQueue.
+	 *
+	 * @param <E>
+	 */
+	public interface Handle<E> {
+		/**
+		 * Returns the item this handle refers to.
+		 */
+		public E get();
+
+		/**
+		 * Returns true while the item is still in the queue, false once it has
+		 * been extracted, removed or cleared.
+		 */
+		public boolean isValid();
+	}
+
+	/**
+	 * Adds the given item to this priority queue and returns a handle to it.
+	 * O(1) in the average case, O(log N) in the worst case
+	 * 
+	 * @param item
+	 * @return a handle to the added item
+	 */
+	public Handle<E> insert(E item);
+
+	/**
+	 * Restores the item's position after its priority was changed in place,
+	 * whether it went up or down.
+	 * O(log N)
+	 * 
+	 * @param handle a valid handle from this queue
+	 * @throws IllegalArgumentException if the handle is not valid for this queue
+	 */
+	public void changePriority(Handle<E> handle);
+
+	/**
+	 * Replaces the item behind the handle and moves it to its new position.
+	 * O(log N)
+	 * 
+	 * @param handle a valid handle from this queue
+	 * @param item the replacement item
+	 * @throws IllegalArgumentException if the handle is not valid for this queue
+	 */
+	public void changePriority(Handle<E> handle, E item);
+
+	/**
+	 * Removes the item behind the handle and invalidates the handle.
+	 * O(log N)
+	 * 
+	 * @param handle a valid handle from this queue
+	 * @return the removed item
+	 * @throws IllegalArgumentException if the handle is not valid for this queue
+	 */
+	public E remove(Handle<E> handle);
+
+	/**
+	 * Returns a handle to the maximum item in this priority queue.
+	 * O(1)
+	 * 
+	 * @return a handle to the maximum item
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public Handle<E> peekHandle() throws NoSuchElementException;
+}
@@ -1,8 +1,16 @@
 package assign10;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 /**
  * Binary Max Heap implementing the Priority Queue interface.
  * @author Maxwell and Cooper
@@ -12,16 +20,28 @@ public class BinaryMaxHeap<E> implements PriorityQueue<E> {
 	private Comparator<? super E> cmp;
 	private Object[] list;
 	private int size;
+	private int modCount;
+	private int initialCapacity;
+	private static final int DEFAULT_CAPACITY = 15;
+	private double growthFactor = 2.0;
+	private boolean retainOnClear = false;
+	private boolean autoShrink = false;
+	private HeapMetrics metrics = HeapMetrics.NONE;
 
 	/**
-	 * Constructor which takes both a list to immediately insert and a custom comparator
+	 * Constructor which takes both a list to immediately insert and a custom comparator.
+	 * The backing array is sized from the list and built bottom-up in O(N). The list's
+	 * size is not kept as the initial capacity, so clear and auto-shrink still fall
+	 * back to the default capacity.
 	 * @param list Initial elements in the Heap
 	 * @param cmp Custom Comparator
 	 */
 	public BinaryMaxHeap(List<? extends E> list, Comparator<? super E> cmp) {
-		this(cmp);
+		this(cmp, list.size());
+		initialCapacity = DEFAULT_CAPACITY;
 		for (E e : list)
-			this.add(e);
+			this.list[++size] = e;
+		heapify();
 	}
 
 	/**
@@ -37,9 +57,22 @@ public class BinaryMaxHeap<E> implements PriorityQueue<E> {
 	 * @param cmp Custom Comparator
 	 */
 	public BinaryMaxHeap(Comparator<? super E> cmp) {
+		this(cmp, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructor which takes a custom comparator and an initial capacity
+	 * @param cmp Custom Comparator
+	 * @param capacity Number of items the heap can hold before its backing array grows
+	 * @throws IllegalArgumentException if capacity is negative
+	 */
+	public BinaryMaxHeap(Comparator<? super E> cmp, int capacity) {
+		if (capacity < 0)
+			throw new IllegalArgumentException();
 		this.cmp = cmp;
-		list = new Object[16];
+		list = new Object[capacity + 1];
 		size = 0;
+		initialCapacity = capacity;
 	}
 
 	/**
@@ -56,22 +89,89 @@ public class BinaryMaxHeap<E> implements PriorityQueue<E> {
 	 * @param item
 	 */
 	public void add(E item) {
-		//Increment size. If the new item cannot fit into the backing array, double its size
+		//If the new item cannot fit into the backing array, grow it. Then increment size
+		if (size + 1 >= list.length)
+			grow(size + 1);
 		size++;
-		if (size >= list.length) {
-			Object[] newList = new Object[list.length * 2];
-			for (int i = 1; i < list.length; i++)
-				newList[i] = list[i];
-			list = newList;
-		}
+		modCount++;
 		// Percolate up. It's only used here, so no need for a private function
 		int index = size;
+		int moves = 0;
 		// Stop if the parent is greater than the new entry, or we reached the head
-		while (index > 1 && cmp.compare(get(index / 2), item) < 0) {
+		while (index > 1 && compare(get(index / 2), item) < 0) {
 			list[index] = get(index / 2);
 			index = index / 2;
+			moves++;
 		}
 		list[index] = item;
+		metrics.added(moves, size);
+	}
+
+	/**
+	 * Adds all of the given items to this priority queue. Small batches are sifted
+	 * up one at a time; once the batch is large enough that k log(N + k) exceeds the
+	 * 2(N + k) comparisons of a rebuild, the items are appended and the whole heap
+	 * is rebuilt bottom-up instead.
+	 * O(min(k log(N + k), N + k))
+	 * 
+	 * @param items the items to add
+	 */
+	public void addAll(Collection<? extends E> items) {
+		int count = items.size();
+		if (count == 0)
+			return;
+		int total = size + count;
+		if (!rebuildIsCheaper(count, total)) {
+			for (E e : items)
+				add(e);
+			return;
+		}
+		if (total >= list.length)
+			grow(total);
+		for (E e : items)
+			list[++size] = e;
+		modCount++;
+		heapify();
+	}
+
+	/**
+	 * Moves every item of other into this heap and leaves other empty. The larger of
+	 * the two backing arrays is kept and the smaller heap's items are copied into it,
+	 * then either sifted up one at a time or rebuilt bottom-up, on the same rule as
+	 * addAll. Both heaps should order their items the same way.
+	 * O(min(M, N) log(N + M)) worst case, O(N + M) when rebuilding
+	 * 
+	 * @param other the heap to absorb
+	 * @throws IllegalArgumentException if other is this heap
+	 */
+	public void meld(BinaryMaxHeap<? extends E> other) {
+		if (other == this)
+			throw new IllegalArgumentException("Cannot meld a heap with itself");
+		if (other.size == 0)
+			return;
+		// Adopt the bigger array so only the smaller heap's items move
+		if (size < other.size) {
+			Object[] hold = list;
+			int holdSize = size;
+			list = other.list;
+			size = other.size;
+			other.list = hold;
+			other.size = holdSize;
+		}
+		int count = other.size;
+		int total = size + count;
+		if (total >= list.length)
+			grow(total);
+		if (rebuildIsCheaper(count, total)) {
+			System.arraycopy(other.list, 1, list, size + 1, count);
+			size = total;
+			modCount++;
+			heapify();
+		} else {
+			for (int i = 1; i <= count; i++)
+				add((E) other.list[i]);
+		}
+		other.clear();
 	}
 
 	/**
@@ -96,12 +196,102 @@ public class BinaryMaxHeap<E> implements PriorityQueue<E> {
 		if (size == 0)
 			throw new NoSuchElementException();
 		E r = get(1);
-		list[1] = null;
-		percolateDown(1);
-		size--;
+		// Move the last entry into the root and percolate it down. Percolating a null
+		// hole instead breaks once the hole lands on the last index itself.
+		list[1] = list[size];
+		list[size--] = null;
+		modCount++;
+		metrics.extracted(percolateDown(1), size);
+		shrinkIfSparse();
+		return r;
+	}
+
+	/**
+	 * Replaces the maximum item with the given item and returns the old maximum.
+	 * Cheaper than extractMax followed by add, since the new item is sifted down
+	 * once from the root and the size never changes. O(log N)
+	 * 
+	 * @param item the item to put in place of the maximum
+	 * @return the maximum item before the call
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public E replaceMax(E item) throws NoSuchElementException {
+		if (size == 0)
+			throw new NoSuchElementException();
+		E r = get(1);
+		list[1] = item;
+		modCount++;
+		metrics.extracted(percolateDown(1), size);
 		return r;
 	}
 
+	/**
+	 * Removes up to n of the largest items and adds them to sink, largest first.
+	 * 
+	 * Up to half the heap is taken by partial heapsort: each maximum is swapped to
+	 * the end of the backing array and the root percolated down, so the extracted
+	 * items collect in the array's tail and are handed to sink in one pass. Beyond
+	 * half, the whole backing range is sorted descending instead; the first n go to
+	 * sink and the rest are shifted to the front, where a descending array is already
+	 * a valid heap and needs no rebuild.
+	 * O(n log N), or O(N log N) for n above N / 2
+	 * 
+	 * @param n the most items to extract
+	 * @param sink the collection to add the extracted items to
+	 * @return the number of items extracted
+	 * @throws IllegalArgumentException if n is negative
+	 */
+	public int extractMax(int n, Collection<? super E> sink) {
+		if (n < 0)
+			throw new IllegalArgumentException();
+		n = Math.min(n, size);
+		if (n == 0)
+			return 0;
+		modCount++;
+		if (n > size / 2) {
+			// The sort's comparisons go through compare(). No item moves down level by
+			// level, so each extraction reports 0 swaps, and the sorted rest that is
+			// shifted to the root is reported as a rebuild
+			Arrays.sort(list, 1, size + 1, (a, b) -> compare((E) b, (E) a));
+			for (int i = 1; i <= n; i++) {
+				sink.add(get(i));
+				metrics.extracted(0, size - i);
+			}
+			int remaining = size - n;
+			System.arraycopy(list, n + 1, list, 1, remaining);
+			Arrays.fill(list, remaining + 1, size + 1, null);
+			size = remaining;
+			metrics.rebuilt(size);
+			shrinkIfSparse();
+			return n;
+		}
+		int end = size;
+		for (int i = 0; i < n; i++) {
+			Object max = list[1];
+			list[1] = list[size];
+			list[size--] = max;
+			metrics.extracted(percolateDown(1), size);
+		}
+		// The maximums sit in list[size + 1 .. end], the largest at the very end
+		for (int i = end; i > size; i--) {
+			sink.add(get(i));
+			list[i] = null;
+		}
+		shrinkIfSparse();
+		return n;
+	}
+
+	/**
+	 * Removes every item and adds them to sink, largest first, by sorting the
+	 * backing range once. O(N log N)
+	 * 
+	 * @param sink the collection to add the extracted items to
+	 * @return the number of items extracted
+	 */
+	public int drainTo(Collection<? super E> sink) {
+		return extractMax(size, sink);
+	}
+
 	/**
 	 * Returns the number of items in this priority queue. O(1)
 	 */
@@ -117,11 +307,126 @@ public class BinaryMaxHeap<E> implements PriorityQueue<E> {
 	}
 
 	/**
-	 * Empties this priority queue of items. O(1)
+	 * Empties this priority queue of items. By default the backing array is dropped
+	 * and replaced with one of the initial capacity, which is O(1) in N. With
+	 * setRetainOnClear(true) the array is kept and only the used range is nulled
+	 * out, which is O(N).
 	 */
 	public void clear() {
+		if (retainOnClear)
+			Arrays.fill(list, 1, size + 1, null);
+		else
+			list = new Object[initialCapacity + 1];
 		size = 0;
-		list = new Object[32];
+		modCount++;
+	}
+
+	/**
+	 * Returns the number of items this heap can hold before its backing array grows.
+	 * O(1)
+	 */
+	public int capacity() {
+		return list.length - 1;
+	}
+
+	/**
+	 * Grows the backing array, if needed, so it can hold at least minCapacity items
+	 * without growing again. O(N) if the array grows, O(1) otherwise
+	 * 
+	 * @param minCapacity the number of items to make room for
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > capacity())
+			grow(minCapacity);
+	}
+
+	/**
+	 * Shrinks the backing array to exactly the current number of items. O(N)
+	 */
+	public void trimToSize() {
+		if (size < capacity())
+			resize(size);
+	}
+
+	/**
+	 * Sets whether clear keeps the backing array for reuse instead of releasing it.
+	 * Useful for queues that fill and drain every cycle. Off by default.
+	 * 
+	 * @param retain true to keep the array across clear
+	 */
+	public void setRetainOnClear(boolean retain) {
+		retainOnClear = retain;
+	}
+
+	/**
+	 * Sets how much the backing array grows by when it is full: the new capacity is
+	 * the old one times factor. 2.0 by default.
+	 * 
+	 * @param factor the growth factor
+	 * @throws IllegalArgumentException if factor is not greater than 1
+	 */
+	public void setGrowthFactor(double factor) {
+		if (!(factor > 1.0))
+			throw new IllegalArgumentException("Growth factor must be greater than 1");
+		growthFactor = factor;
+	}
+
+	/**
+	 * Sets whether extractMax halves the backing array once fewer than a quarter of
+	 * its slots are used, never going below the initial capacity. The gap between
+	 * growing when full and shrinking at a quarter keeps a queue that hovers around
+	 * one size from resizing back and forth. Off by default.
+	 * 
+	 * @param shrink true to shrink automatically
+	 */
+	public void setAutoShrink(boolean shrink) {
+		autoShrink = shrink;
+	}
+
+	/**
+	 * Attaches a metrics listener to this heap, or detaches it when given
+	 * HeapMetrics.NONE. The default is NONE, whose empty methods the JIT inlines
+	 * away, so an uninstrumented heap pays nothing.
+	 * 
+	 * @param metrics the listener to report to
+	 */
+	public void setMetrics(HeapMetrics metrics) {
+		this.metrics = metrics == null ? HeapMetrics.NONE : metrics;
+	}
+
+	/**
+	 * Grows the backing array by the growth factor, or further if that is not
+	 * enough to hold minCapacity items.
+	 * @param minCapacity The number of items the array must hold
+	 */
+	private void grow(int minCapacity) {
+		long grown = (long) Math.ceil(capacity() * growthFactor);
+		resize((int) Math.min(Integer.MAX_VALUE - 8, Math.max(grown, Math.max(minCapacity, capacity() + 1))));
+	}
+
+	/**
+	 * With auto-shrink on, halves the capacity, not below the initial capacity, until
+	 * at least a quarter of it is in use. Hysteresis: grow when full, but only shrink
+	 * once three quarters are unused.
+	 */
+	private void shrinkIfSparse() {
+		if (!autoShrink)
+			return;
+		int target = capacity();
+		while (size < target / 4 && target > initialCapacity)
+			target = Math.max(initialCapacity, target / 2);
+		if (target != capacity())
+			resize(target);
+	}
+
+	/**
+	 * Copies the items into a new backing array with room for exactly capacity items.
+	 * @param capacity The new capacity, at least size
+	 */
+	private void resize(int capacity) {
+		int oldCapacity = capacity();
+		list = Arrays.copyOf(list, capacity + 1);
+		metrics.resized(oldCapacity, capacity, size);
 	}
 
 	/**
@@ -139,53 +444,178 @@ public class BinaryMaxHeap<E> implements PriorityQueue<E> {
 		return array;
 	}
 
+	/**
+	 * Decides between sifting count new items up one at a time, worst case about
+	 * count * log2(total) comparisons, and rebuilding all total items, about 2 * total.
+	 * @param count Number of items being added
+	 * @param total Size of the heap once they are added
+	 * @return true if a rebuild is the cheaper of the two
+	 */
+	private static boolean rebuildIsCheaper(int count, int total) {
+		int depth = 32 - Integer.numberOfLeadingZeros(total);
+		return (long) count * depth > 2L * total;
+	}
+
+	/**
+	 * Returns an iterator over the items from largest to smallest, without changing
+	 * the heap. The items are read from the backing array through a small frontier
+	 * heap of indices, which starts with the root and swaps each returned index for
+	 * its children, so the first K items cost O(K log K) and no copy of the heap is
+	 * made. The iterator fails fast if the heap is modified during iteration.
+	 * 
+	 * @return an iterator in descending priority order
+	 */
+	public Iterator<E> sortedIterator() {
+		return new SortedIterator();
+	}
+
+	/**
+	 * Returns a spliterator over the items from largest to smallest, without changing
+	 * the heap. See sortedIterator.
+	 * 
+	 * @return an ordered, sized spliterator in descending priority order
+	 */
+	public Spliterator<E> sortedSpliterator() {
+		return Spliterators.spliterator(sortedIterator(), size, Spliterator.ORDERED | Spliterator.SIZED);
+	}
+
+	/**
+	 * Returns a sequential stream of the items from largest to smallest, without
+	 * changing the heap. sortedStream().limit(k) reads only the top k items.
+	 * 
+	 * @return a stream in descending priority order
+	 */
+	public Stream<E> sortedStream() {
+		return StreamSupport.stream(sortedSpliterator(), false);
+	}
+
+	/**
+	 * Lazy descending-order walk over the backing array. frontier is a 1-indexed max
+	 * heap of backing-array indices, ordered by the items they point to.
+	 */
+	private class SortedIterator implements Iterator<E> {
+		private int[] frontier = new int[16];
+		private int count;
+		private final int expectedModCount = modCount;
+
+		private SortedIterator() {
+			if (size > 0)
+				push(1);
+		}
+
+		public boolean hasNext() {
+			return count > 0;
+		}
+
+		public E next() {
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+			if (count == 0)
+				throw new NoSuchElementException();
+			int top = frontier[1];
+			int last = frontier[count--];
+			// Percolate the last index down from the root
+			int index = 1;
+			int child;
+			while ((child = index * 2) <= count) {
+				if (child < count && compare(get(frontier[child]), get(frontier[child + 1])) < 0)
+					child++;
+				if (compare(get(frontier[child]), get(last)) <= 0)
+					break;
+				frontier[index] = frontier[child];
+				index = child;
+			}
+			frontier[index] = last;
+			if (top * 2 <= size)
+				push(top * 2);
+			if (top * 2 + 1 <= size)
+				push(top * 2 + 1);
+			return get(top);
+		}
+
+		private void push(int heapIndex) {
+			if (++count >= frontier.length)
+				frontier = Arrays.copyOf(frontier, frontier.length * 2);
+			int index = count;
+			while (index > 1 && compare(get(frontier[index / 2]), get(heapIndex)) < 0) {
+				frontier[index] = frontier[index / 2];
+				index = index / 2;
+			}
+			frontier[index] = heapIndex;
+		}
+	}
+
+	/**
+	 * Floyd's bottom-up construction: percolates down every internal node, from the
+	 * last parent back up to the root. O(N)
+	 */
+	private void heapify() {
+		for (int i = size / 2; i >= 1; i--)
+			percolateDown(i);
+		metrics.rebuilt(size);
+	}
+
 	/**
 	 * Private percolateDown function which recursively takes out of order entries and percolates it down the heap, correcting the overall structure.
 	 * @param index The index of an out-of-place entry.
+	 * @return The number of swaps made
 	 */
-	private void percolateDown(int index) {
+	private int percolateDown(int index) {
 		// Three cases, no children, 1 child, 2 child
 		// Must also account for the entry being null, in case of deletion, always treating it as a lesser value
 		// 1 child: This child has no children, no recursion.
 		if (index * 2 == size) {
-			if (get(index) == null || cmp.compare(get(index), get(index * 2)) < 0) {
+			if (get(index) == null || compare(get(index), get(index * 2)) < 0) {
 				E hold = get(index);
 				list[index] = get(index * 2);
 				list[index * 2] = hold;
+				return 1;
 			}
 		} 
 		// 2 children: Compare them. Swap parent with the greater child. Perform recursion on the swapped child index, now containing the percolated value.
 		else if (index * 2 < size) {
-			if (cmp.compare(get(index * 2), get(index * 2 + 1)) < 0) {
-				if (get(index) == null || cmp.compare(get(index), get(index * 2 + 1)) < 0) {
+			if (compare(get(index * 2), get(index * 2 + 1)) < 0) {
+				if (get(index) == null || compare(get(index), get(index * 2 + 1)) < 0) {
 					E hold = get(index);
 					list[index] = get(index * 2 + 1);
 					list[index * 2 + 1] = hold;
-					percolateDown(index * 2 + 1);
+					return 1 + percolateDown(index * 2 + 1);
 				}
 			} else {
-				if (get(index) == null || cmp.compare(get(index), get(index * 2)) < 0) {
+				if (get(index) == null || compare(get(index), get(index * 2)) < 0) {
 					E hold = get(index);
 					list[index] = get(index * 2);
 					list[index * 2] = hold;
-					percolateDown(index * 2);
+					return 1 + percolateDown(index * 2);
 				}
 			}
 		}
 		// 0 children: do nothing.
 		//In the case that the final node with no children
 		else if (get(index) == null) {
-			E item = list[size];
+			E item = get(size);
 			// Percolate up.
 			int i = index;
 			// Stop if the parent is greater than the new entry, or we reached the head
-			while (index > 1 && cmp.compare(get(index / 2), item) < 0) {
+			while (index > 1 && compare(get(index / 2), item) < 0) {
 				list[index] = get(index / 2);
 				index = index / 2;
 			}
 			list[index] = item;
 		}
+		return 0;
 	}
+	/**
+	 * Compares two items with the heap's comparator, reporting the call to metrics.
+	 * @param a The first item
+	 * @param b The second item
+	 * @return The comparator's result
+	 */
+	private int compare(E a, E b) {
+		metrics.compared();
+		return cmp.compare(a, b);
+	}
+
 	/**
 	 * Access the given index in the list array, casting it to E.
 	 * @param index The index to access
@@ -2,7 +2,14 @@ package assign10;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -229,6 +236,360 @@ class BinaryMaxHeapTest {
 		assertTrue(expected[2] == actual[2]);
 		assertTrue(expected[3] == actual[3]);
 	}
+
+	// Tests for bulk construction and addAll
+	@Test
+	void testListConstructorHeapify() {
+		List<Integer> items = new ArrayList<>();
+		for (int i = 0; i < 1000; i++)
+			items.add(i);
+		BinaryMaxHeap<Integer> heap = new BinaryMaxHeap<>(items);
+		assertEquals(1000, heap.size());
+		for (int i = 999; i >= 0; i--)
+			assertEquals(i, heap.extractMax());
+	}
+
+	@Test
+	void testListConstructorEmptyList() {
+		BinaryMaxHeap<Integer> heap = new BinaryMaxHeap<>(new ArrayList<Integer>());
+		assertTrue(heap.isEmpty());
+		heap.add(3);
+		assertEquals(3, heap.peek());
+	}
+
+	@Test
+	void testAddAllSmallBatch() {
+		List<Integer> batch = new ArrayList<>();
+		batch.add(41);
+		batch.add(1);
+		populated.addAll(batch);
+		assertEquals(22, populated.size());
+		assertEquals(41, populated.extractMax());
+		assertEquals(40, populated.peek());
+	}
+
+	@Test
+	void testAddAllLargeBatchRebuilds() {
+		Random rng = new Random(2420);
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 2; i <= 40; i += 2)
+			expected.add(i);
+		List<Integer> batch = new ArrayList<>();
+		for (int i = 0; i < 500; i++)
+			batch.add(rng.nextInt(100));
+		populated.addAll(batch);
+		expected.addAll(batch);
+		expected.sort(Collections.reverseOrder());
+		assertEquals(520, populated.size());
+		for (int e : expected)
+			assertEquals(e, populated.extractMax());
+	}
+
+	@Test
+	void testExtractRandomDuplicates() {
+		Random rng = new Random(7);
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			int value = rng.nextInt(20);
+			expected.add(value);
+			empty.add(value);
+		}
+		expected.sort(Collections.reverseOrder());
+		for (int e : expected)
+			assertEquals(e, empty.extractMax());
+	}
+
+	// Tests for replaceMax and capacity
+	@Test
+	void testReplaceMax() {
+		assertEquals(40, populated.replaceMax(1));
+		assertEquals(20, populated.size());
+		assertEquals(38, populated.peek());
+		assertEquals(5, single.replaceMax(9));
+		assertEquals(9, single.peek());
+	}
+
+	@Test
+	void testReplaceMaxEmpty() {
+		assertThrows(NoSuchElementException.class, () -> {
+			empty.replaceMax(1);
+		});
+	}
+
+	@Test
+	void testCapacityConstructor() {
+		BinaryMaxHeap<Integer> heap = new BinaryMaxHeap<>(Integer::compare, 0);
+		for (int i = 0; i < 40; i++)
+			heap.add(i);
+		assertEquals(39, heap.peek());
+		assertThrows(IllegalArgumentException.class, () -> new BinaryMaxHeap<Integer>(Integer::compare, -1));
+	}
+
+	// Tests for meld
+	@Test
+	void testMeldSmallIntoLarge() {
+		populated.meld(single);
+		assertTrue(single.isEmpty());
+		assertEquals(21, populated.size());
+		assertEquals(40, populated.peek());
+		single.add(1);
+		assertEquals(1, single.peek());
+	}
+
+	@Test
+	void testMeldLargeIntoSmall() {
+		single.meld(populated);
+		assertTrue(populated.isEmpty());
+		assertEquals(21, single.size());
+		for (int i = 40; i >= 6; i -= 2)
+			assertEquals(i, single.extractMax());
+		assertEquals(5, single.extractMax());
+		assertEquals(4, single.extractMax());
+		assertEquals(2, single.extractMax());
+	}
+
+	@Test
+	void testMeldSelf() {
+		assertThrows(IllegalArgumentException.class, () -> {
+			populated.meld(populated);
+		});
+	}
+
+	// Tests for sorted iteration
+	@Test
+	void testSortedIteratorDescending() {
+		Iterator<Integer> it = populated.sortedIterator();
+		for (int i = 40; i > 0; i -= 2) {
+			assertTrue(it.hasNext());
+			assertEquals(i, it.next());
+		}
+		assertFalse(it.hasNext());
+		assertThrows(NoSuchElementException.class, () -> it.next());
+		assertEquals(20, populated.size());
+		assertEquals(40, populated.peek());
+	}
+
+	@Test
+	void testSortedIteratorEmpty() {
+		assertFalse(empty.sortedIterator().hasNext());
+		assertEquals(0, empty.sortedStream().count());
+	}
+
+	@Test
+	void testSortedStreamLimit() {
+		List<Integer> top = populated.sortedStream().limit(3).collect(Collectors.toList());
+		assertEquals(List.of(40, 38, 36), top);
+	}
+
+	@Test
+	void testSortedStreamDuplicates() {
+		Random rng = new Random(3);
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			int value = rng.nextInt(10);
+			expected.add(value);
+			empty.add(value);
+		}
+		expected.sort(Collections.reverseOrder());
+		assertEquals(expected, empty.sortedStream().collect(Collectors.toList()));
+	}
+
+	@Test
+	void testSortedIteratorFailsFast() {
+		Iterator<Integer> it = populated.sortedIterator();
+		it.next();
+		populated.add(1);
+		assertThrows(ConcurrentModificationException.class, () -> it.next());
+	}
+
+	// Tests for capacity management
+	@Test
+	void testEnsureCapacityAndTrim() {
+		empty.ensureCapacity(100);
+		assertTrue(empty.capacity() >= 100);
+		for (int i = 0; i < 10; i++)
+			empty.add(i);
+		empty.trimToSize();
+		assertEquals(10, empty.capacity());
+		empty.add(10);
+		assertEquals(10, empty.peek());
+		assertEquals(11, empty.size());
+	}
+
+	@Test
+	void testGrowthFactor() {
+		BinaryMaxHeap<Integer> heap = new BinaryMaxHeap<>(Integer::compare, 10);
+		heap.setGrowthFactor(1.5);
+		for (int i = 0; i < 11; i++)
+			heap.add(i);
+		assertEquals(15, heap.capacity());
+		assertThrows(IllegalArgumentException.class, () -> heap.setGrowthFactor(1.0));
+	}
+
+	@Test
+	void testRetainOnClear() {
+		populated.setRetainOnClear(true);
+		int capacity = populated.capacity();
+		populated.clear();
+		assertEquals(capacity, populated.capacity());
+		assertTrue(populated.isEmpty());
+		populated.add(3);
+		assertEquals(3, populated.peek());
+	}
+
+	@Test
+	void testClearReleasesByDefault() {
+		for (int i = 0; i < 100; i++)
+			empty.add(i);
+		empty.clear();
+		assertEquals(15, empty.capacity());
+	}
+
+	@Test
+	void testAutoShrink() {
+		empty.setAutoShrink(true);
+		for (int i = 0; i < 1000; i++)
+			empty.add(i);
+		int peak = empty.capacity();
+		for (int i = 999; i >= 10; i--)
+			assertEquals(i, empty.extractMax());
+		assertTrue(empty.capacity() < peak);
+		assertTrue(empty.capacity() >= 15);
+		for (int i = 9; i >= 0; i--)
+			assertEquals(i, empty.extractMax());
+	}
+
+	@Test
+	void testListConstructorCapacityFloor() {
+		List<Integer> items = new ArrayList<>();
+		for (int i = 0; i < 100000; i++)
+			items.add(i);
+		BinaryMaxHeap<Integer> loaded = new BinaryMaxHeap<>(items);
+		assertEquals(100000, loaded.capacity());
+		loaded.clear();
+		assertEquals(15, loaded.capacity());
+
+		loaded = new BinaryMaxHeap<>(items);
+		loaded.setAutoShrink(true);
+		List<Integer> sink = new ArrayList<>();
+		loaded.extractMax(99990, sink);
+		assertTrue(loaded.capacity() < 100);
+		assertTrue(loaded.capacity() >= 15);
+		for (int i = 9; i >= 0; i--)
+			assertEquals(i, loaded.extractMax());
+	}
+
+	// Tests for metrics
+	@Test
+	void testMetricsCounters() {
+		HeapCounters counters = new HeapCounters();
+		empty.setMetrics(counters);
+		for (int i = 0; i < 16; i++)
+			empty.add(i);
+		assertEquals(16, counters.adds());
+		assertEquals(1, counters.resizes());
+		assertEquals(15 * HeapCounters.REFERENCE_BYTES, counters.bytesCopied());
+		assertTrue(counters.comparisons() > 0);
+		assertTrue(counters.swapsPerAdd() > 0);
+		for (int i = 0; i < 10; i++)
+			empty.extractMax();
+		assertEquals(10, counters.extracts());
+		assertEquals(16, counters.highWaterSize());
+		counters.reset();
+		assertEquals(0, counters.comparisons());
+	}
+
+	@Test
+	void testMetricsDetached() {
+		HeapCounters counters = new HeapCounters();
+		populated.setMetrics(counters);
+		populated.setMetrics(HeapMetrics.NONE);
+		populated.add(1);
+		populated.extractMax();
+		assertEquals(0, counters.adds());
+		assertEquals(0, counters.comparisons());
+	}
+
+	// Tests for batch extraction
+	@Test
+	void testExtractMaxBatchSmall() {
+		List<Integer> sink = new ArrayList<>();
+		assertEquals(3, populated.extractMax(3, sink));
+		assertEquals(List.of(40, 38, 36), sink);
+		assertEquals(17, populated.size());
+		assertEquals(34, populated.peek());
+	}
+
+	@Test
+	void testExtractMaxBatchLarge() {
+		List<Integer> sink = new ArrayList<>();
+		assertEquals(15, populated.extractMax(15, sink));
+		assertEquals(40, sink.get(0));
+		assertEquals(12, sink.get(14));
+		assertEquals(5, populated.size());
+		for (int i = 10; i > 0; i -= 2)
+			assertEquals(i, populated.extractMax());
+	}
+
+	@Test
+	void testExtractMaxBatchMoreThanSize() {
+		List<Integer> sink = new ArrayList<>();
+		assertEquals(1, single.extractMax(10, sink));
+		assertEquals(List.of(5), sink);
+		assertEquals(0, empty.extractMax(10, sink));
+		assertThrows(IllegalArgumentException.class, () -> populated.extractMax(-1, sink));
+	}
+
+	@Test
+	void testExtractMaxBatchMetrics() {
+		HeapCounters counters = new HeapCounters();
+		populated.setMetrics(counters);
+		List<Integer> sink = new ArrayList<>();
+		populated.extractMax(3, sink);
+		assertEquals(3, counters.extracts());
+		assertTrue(counters.comparisons() > 0);
+		counters.reset();
+		populated.extractMax(15, sink);
+		assertEquals(15, counters.extracts());
+		assertTrue(counters.comparisons() > 0);
+	}
+
+	@Test
+	void testExtractMaxBatchAutoShrink() {
+		empty.setAutoShrink(true);
+		for (int i = 0; i < 1000; i++)
+			empty.add(i);
+		int peak = empty.capacity();
+		List<Integer> sink = new ArrayList<>();
+		empty.extractMax(990, sink);
+		assertTrue(empty.capacity() < peak);
+		assertTrue(empty.capacity() >= 15);
+		empty.extractMax(5, sink);
+		assertEquals(15, empty.capacity());
+		for (int i = 4; i >= 0; i--)
+			assertEquals(i, empty.extractMax());
+	}
+
+	@Test
+	void testDrainTo() {
+		List<Integer> sink = new ArrayList<>();
+		assertEquals(20, populated.drainTo(sink));
+		assertTrue(populated.isEmpty());
+		for (int i = 0; i < 20; i++)
+			assertEquals(40 - 2 * i, sink.get(i));
+		populated.add(7);
+		assertEquals(7, populated.peek());
+	}
+
+	@Test
+	void testExtractWhile() {
+		List<Integer> sink = new ArrayList<>();
+		assertEquals(5, populated.extractWhile(i -> i > 30, sink));
+		assertEquals(List.of(40, 38, 36, 34, 32), sink);
+		assertEquals(30, populated.peek());
+		assertEquals(0, empty.extractWhile(i -> true, sink));
+	}
+
 	 @Test
 	void test() {
 	}
@@ -0,0 +1,181 @@
+package assign10;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bucket queue implementing the Priority Queue interface for items with small,
+ * bounded integer keys in the range [0, maxKey].
+ * 
+ * There is one bucket per key and a cursor pointing at the best bucket that may be
+ * non-empty. add drops the item into its bucket without comparing it to anything;
+ * extractMax takes from the cursor's bucket, first moving the cursor past any empty
+ * buckets. When keys are monotone, as with deadlines or Dijkstra distances, the
+ * cursor only ever moves one way, so both operations are amortized O(1) plus a
+ * total of O(maxKey) cursor steps over the queue's lifetime. Non-monotone use is
+ * still correct: an add that beats the cursor just moves it back.
+ * 
+ * With Orientation.MAX the largest key is extracted first, as with BinaryMaxHeap.
+ * With Orientation.MIN the smallest key is, which is what deadline and shortest-path
+ * queues want. Items with equal keys come out in the order they were added.
+ * @author Maxwell and Cooper
+ * @version April 6, 2025
+ */
+public class BucketPriorityQueue<E> implements PriorityQueue<E> {
+	/**
+	 * Which end of the key range is the highest priority.
+	 */
+	public enum Orientation {
+		/** Largest key first. */
+		MAX,
+		/** Smallest key first. */
+		MIN
+	}
+
+	private final ToIntFunction<? super E> key;
+	private final Orientation orientation;
+	private final int maxKey;
+	private ArrayDeque<E>[] buckets;
+	private int cursor;
+	private int size;
+
+	/**
+	 * Constructor which takes the key function, the largest key and the orientation
+	 * @param key Maps each item to its key in [0, maxKey]
+	 * @param maxKey Largest key any item may have
+	 * @param orientation MAX or MIN
+	 * @throws IllegalArgumentException if maxKey is negative
+	 */
+	@SuppressWarnings("unchecked")
+	public BucketPriorityQueue(ToIntFunction<? super E> key, int maxKey, Orientation orientation) {
+		if (maxKey < 0)
+			throw new IllegalArgumentException("maxKey must not be negative");
+		this.key = key;
+		this.maxKey = maxKey;
+		this.orientation = orientation;
+		buckets = (ArrayDeque<E>[]) new ArrayDeque[maxKey + 1];
+		cursor = -1;
+		size = 0;
+	}
+
+	/**
+	 * Constructor which takes the key function and the largest key, extracting the
+	 * largest key first
+	 * @param key Maps each item to its key in [0, maxKey]
+	 * @param maxKey Largest key any item may have
+	 * @throws IllegalArgumentException if maxKey is negative
+	 */
+	public BucketPriorityQueue(ToIntFunction<? super E> key, int maxKey) {
+		this(key, maxKey, Orientation.MAX);
+	}
+
+	/**
+	 * Adds the given item to this priority queue. O(1)
+	 * 
+	 * @param item
+	 * @throws IllegalArgumentException if the item's key is outside [0, maxKey]
+	 */
+	public void add(E item) {
+		int rank = rank(item);
+		ArrayDeque<E> bucket = buckets[rank];
+		if (bucket == null)
+			bucket = buckets[rank] = new ArrayDeque<>();
+		bucket.addLast(item);
+		if (rank > cursor)
+			cursor = rank;
+		size++;
+	}
+
+	/**
+	 * Returns, but does not remove, the maximum item this priority queue. Amortized
+	 * O(1)
+	 * 
+	 * @return the maximum item
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public E peek() throws NoSuchElementException {
+		if (size == 0)
+			throw new NoSuchElementException();
+		advance();
+		return buckets[cursor].peekFirst();
+	}
+
+	/**
+	 * Returns and removes the maximum item this priority queue. Amortized O(1)
+	 * 
+	 * @return the maximum item
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public E extractMax() throws NoSuchElementException {
+		if (size == 0)
+			throw new NoSuchElementException();
+		advance();
+		size--;
+		return buckets[cursor].pollFirst();
+	}
+
+	/**
+	 * Returns the number of items in this priority queue. O(1)
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if this priority queue is empty, false otherwise. O(1)
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Empties this priority queue of items. The buckets are kept for reuse.
+	 * O(maxKey)
+	 */
+	public void clear() {
+		for (int i = cursor; i >= 0 && size > 0; i--) {
+			if (buckets[i] != null) {
+				size -= buckets[i].size();
+				buckets[i].clear();
+			}
+		}
+		size = 0;
+		cursor = -1;
+	}
+
+	/**
+	 * Creates and returns an array of the items in this priority queue, in the
+	 * order they would be extracted, so the root item is at index 0. O(N + maxKey)
+	 */
+	public Object[] toArray() {
+		Object[] array = new Object[size];
+		int i = 0;
+		for (int b = cursor; b >= 0 && i < size; b--)
+			if (buckets[b] != null)
+				for (E item : buckets[b])
+					array[i++] = item;
+		return array;
+	}
+
+	/**
+	 * Moves the cursor down to the first non-empty bucket. Only called while the
+	 * queue is not empty, so one is always found.
+	 */
+	private void advance() {
+		while (buckets[cursor] == null || buckets[cursor].isEmpty())
+			cursor--;
+	}
+
+	/**
+	 * Maps an item to its bucket index, where a higher index is a higher priority.
+	 * @param item The item to place
+	 * @return The bucket index
+	 */
+	private int rank(E item) {
+		int k = key.applyAsInt(item);
+		if (k < 0 || k > maxKey)
+			throw new IllegalArgumentException("Key " + k + " is outside [0, " + maxKey + "]");
+		return orientation == Orientation.MAX ? k : maxKey - k;
+	}
+}
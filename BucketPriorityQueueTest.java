@@ -0,0 +1,88 @@
+package assign10;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import assign10.BucketPriorityQueue.Orientation;
+
+class BucketPriorityQueueTest {
+
+	@Test
+	void testMaxMatchesBinaryMaxHeap() {
+		Random rng = new Random(2420);
+		BucketPriorityQueue<Integer> buckets = new BucketPriorityQueue<>(i -> i, 255);
+		BinaryMaxHeap<Integer> heap = new BinaryMaxHeap<>();
+		for (int i = 0; i < 5000; i++) {
+			if (heap.isEmpty() || rng.nextInt(3) > 0) {
+				int value = rng.nextInt(256);
+				buckets.add(value);
+				heap.add(value);
+			} else {
+				assertEquals(heap.peek(), buckets.peek());
+				assertEquals(heap.extractMax(), buckets.extractMax());
+			}
+			assertEquals(heap.size(), buckets.size());
+		}
+		while (!heap.isEmpty())
+			assertEquals(heap.extractMax(), buckets.extractMax());
+		assertTrue(buckets.isEmpty());
+	}
+
+	@Test
+	void testMinMatchesReversedBinaryMaxHeap() {
+		Random rng = new Random(7);
+		BucketPriorityQueue<Integer> buckets = new BucketPriorityQueue<>(i -> i, 1000, Orientation.MIN);
+		BinaryMaxHeap<Integer> heap = new BinaryMaxHeap<>(Collections.reverseOrder());
+		int floor = 0;
+		for (int i = 0; i < 5000; i++) {
+			// Monotone use: keys never go below the last one extracted
+			if (heap.isEmpty() || rng.nextInt(2) > 0) {
+				int value = Math.min(1000, floor + rng.nextInt(20));
+				buckets.add(value);
+				heap.add(value);
+			} else {
+				floor = heap.extractMax();
+				assertEquals(floor, buckets.extractMax());
+			}
+		}
+		while (!heap.isEmpty())
+			assertEquals(heap.extractMax(), buckets.extractMax());
+	}
+
+	@Test
+	void testEqualKeysFifo() {
+		BucketPriorityQueue<String> queue = new BucketPriorityQueue<>(String::length, 10);
+		queue.add("ab");
+		queue.add("cd");
+		queue.add("xyz");
+		assertEquals("xyz", queue.extractMax());
+		assertEquals("ab", queue.extractMax());
+		assertEquals("cd", queue.extractMax());
+	}
+
+	@Test
+	void testKeyOutOfRange() {
+		BucketPriorityQueue<Integer> queue = new BucketPriorityQueue<>(i -> i, 10);
+		assertThrows(IllegalArgumentException.class, () -> queue.add(11));
+		assertThrows(IllegalArgumentException.class, () -> queue.add(-1));
+	}
+
+	@Test
+	void testEmptyAndClear() {
+		BucketPriorityQueue<Integer> queue = new BucketPriorityQueue<>(i -> i, 10);
+		assertThrows(NoSuchElementException.class, () -> queue.peek());
+		queue.add(3);
+		queue.add(7);
+		assertArrayEquals(new Object[] { 7, 3 }, queue.toArray());
+		queue.clear();
+		assertTrue(queue.isEmpty());
+		assertThrows(NoSuchElementException.class, () -> queue.extractMax());
+		queue.add(1);
+		assertEquals(1, queue.peek());
+	}
+}
@@ -0,0 +1,329 @@
+package assign10;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe priority queue for many producers and many consumers, with one of
+ * two orderings chosen at construction.
+ * 
+ * STRICT keeps every item in a lock-free skip list, so extractMax always returns
+ * the current maximum. Items that compare equal come out in the order they were
+ * added.
+ * 
+ * RELAXED is a MultiQueue: the items are spread over several BinaryMaxHeap shards,
+ * each behind its own lock. add picks a random shard it can lock right away.
+ * extractMax samples two shards and takes from the one with the larger top. add and
+ * extractMax never wait on a busy lock; a thread that fails a tryLock just picks
+ * other shards. Only the bulk operations clear and toArray lock each shard in turn. The
+ * item returned is close to the maximum but not guaranteed to be it, in exchange
+ * for throughput that keeps scaling with the number of threads.
+ * @author Maxwell and Cooper
+ * @version April 6, 2025
+ */
+public class ConcurrentMaxQueue<E> implements PriorityQueue<E> {
+	/**
+	 * How closely extractMax follows priority order.
+	 */
+	public enum Ordering {
+		/** extractMax always returns the maximum item. */
+		STRICT,
+		/** extractMax returns an item near the maximum. */
+		RELAXED
+	}
+
+	private final Comparator<? super E> cmp;
+	private final Ordering ordering;
+	private final AtomicInteger size = new AtomicInteger();
+
+	// STRICT
+	private final ConcurrentSkipListSet<Entry<E>> skipList;
+	private final AtomicLong sequence = new AtomicLong();
+
+	// RELAXED
+	private final BinaryMaxHeap<E>[] shards;
+	private final ReentrantLock[] locks;
+	private final AtomicReferenceArray<E> tops;
+
+	/**
+	 * Skip list entry. The sequence number breaks ties so equal items can coexist.
+	 */
+	private static class Entry<E> {
+		private final E item;
+		private final long seq;
+
+		private Entry(E item, long seq) {
+			this.item = item;
+			this.seq = seq;
+		}
+	}
+
+	/**
+	 * Constructor which takes the ordering, the number of shards used by RELAXED, and a
+	 * custom comparator
+	 * @param ordering STRICT or RELAXED
+	 * @param shardCount Number of heaps to spread items over; ignored by STRICT
+	 * @param cmp Custom Comparator
+	 * @throws IllegalArgumentException if shardCount is less than 2 in RELAXED mode
+	 */
+	@SuppressWarnings("unchecked")
+	public ConcurrentMaxQueue(Ordering ordering, int shardCount, Comparator<? super E> cmp) {
+		this.cmp = cmp;
+		this.ordering = ordering;
+		if (ordering == Ordering.STRICT) {
+			Comparator<Entry<E>> byItem = (a, b) -> cmp.compare(b.item, a.item);
+			skipList = new ConcurrentSkipListSet<>(byItem.thenComparingLong(e -> e.seq));
+			shards = null;
+			locks = null;
+			tops = null;
+		} else {
+			if (shardCount < 2)
+				throw new IllegalArgumentException("RELAXED needs at least 2 shards");
+			skipList = null;
+			shards = (BinaryMaxHeap<E>[]) new BinaryMaxHeap[shardCount];
+			locks = new ReentrantLock[shardCount];
+			for (int i = 0; i < shardCount; i++) {
+				shards[i] = new BinaryMaxHeap<>(cmp);
+				locks[i] = new ReentrantLock();
+			}
+			tops = new AtomicReferenceArray<>(shardCount);
+		}
+	}
+
+	/**
+	 * Constructor which takes the ordering and a custom comparator. RELAXED uses two
+	 * shards per available processor.
+	 * @param ordering STRICT or RELAXED
+	 * @param cmp Custom Comparator
+	 */
+	public ConcurrentMaxQueue(Ordering ordering, Comparator<? super E> cmp) {
+		this(ordering, 2 * Runtime.getRuntime().availableProcessors(), cmp);
+	}
+
+	/**
+	 * Constructor which takes the ordering, using natural ordering of the items
+	 * @param ordering STRICT or RELAXED
+	 */
+	@SuppressWarnings("unchecked")
+	public ConcurrentMaxQueue(Ordering ordering) {
+		this(ordering, (Comparator<? super E>) Comparator.naturalOrder());
+	}
+
+	/**
+	 * Returns the ordering this queue was built with.
+	 */
+	public Ordering ordering() {
+		return ordering;
+	}
+
+	/**
+	 * Adds the given item to this priority queue. O(log N), never waits on a lock
+	 * 
+	 * @param item
+	 */
+	public void add(E item) {
+		if (ordering == Ordering.STRICT) {
+			skipList.add(new Entry<>(item, sequence.getAndIncrement()));
+		} else {
+			int i = ThreadLocalRandom.current().nextInt(shards.length);
+			while (!locks[i].tryLock())
+				i = (i + 1) % shards.length;
+			try {
+				shards[i].add(item);
+				tops.set(i, shards[i].peek());
+			} finally {
+				locks[i].unlock();
+			}
+		}
+		size.incrementAndGet();
+	}
+
+	/**
+	 * Returns, but does not remove, the maximum item this priority queue. In RELAXED
+	 * mode this is the largest shard top at the time of the call. O(1) for STRICT,
+	 * O(shards) for RELAXED
+	 * 
+	 * @return the maximum item
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public E peek() throws NoSuchElementException {
+		if (ordering == Ordering.STRICT)
+			return skipList.first().item;
+		E best = null;
+		for (int i = 0; i < shards.length; i++) {
+			E top = tops.get(i);
+			if (top != null && (best == null || cmp.compare(best, top) < 0))
+				best = top;
+		}
+		if (best == null)
+			throw new NoSuchElementException();
+		return best;
+	}
+
+	/**
+	 * Returns and removes the maximum item this priority queue, or in RELAXED mode an
+	 * item close to it. O(log N)
+	 * 
+	 * @return the maximum item
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public E extractMax() throws NoSuchElementException {
+		E item;
+		if (ordering == Ordering.STRICT) {
+			Entry<E> entry = skipList.pollFirst();
+			if (entry == null)
+				throw new NoSuchElementException();
+			item = entry.item;
+		} else {
+			item = extractRelaxed();
+		}
+		size.decrementAndGet();
+		return item;
+	}
+
+	/**
+	 * Two-choice extraction: sample two shards, try to lock the one with the larger
+	 * top and take from it. Falls back to sweeping every shard when the samples keep
+	 * coming up empty or busy. The sweep skips busy shards instead of waiting on them
+	 * and starts over if it found nothing while any shard was busy.
+	 * @return the extracted item
+	 * @throws NoSuchElementException if a sweep finds every shard unlocked and empty
+	 */
+	private E extractRelaxed() {
+		ThreadLocalRandom rng = ThreadLocalRandom.current();
+		for (int attempt = 0; attempt < shards.length; attempt++) {
+			int a = rng.nextInt(shards.length);
+			int b = rng.nextInt(shards.length);
+			E topA = tops.get(a);
+			E topB = tops.get(b);
+			if (topA == null && topB == null)
+				continue;
+			int i = topA == null || (topB != null && cmp.compare(topA, topB) < 0) ? b : a;
+			if (locks[i].tryLock()) {
+				try {
+					if (!shards[i].isEmpty())
+						return takeLocked(i);
+				} finally {
+					locks[i].unlock();
+				}
+			}
+		}
+		// Sweep from a random shard and take from the first one holding anything
+		while (true) {
+			boolean busy = false;
+			int start = rng.nextInt(shards.length);
+			for (int k = 0; k < shards.length; k++) {
+				int i = (start + k) % shards.length;
+				if (!locks[i].tryLock()) {
+					busy = true;
+					continue;
+				}
+				try {
+					if (!shards[i].isEmpty())
+						return takeLocked(i);
+				} finally {
+					locks[i].unlock();
+				}
+			}
+			if (!busy)
+				throw new NoSuchElementException();
+			Thread.onSpinWait();
+		}
+	}
+
+	/**
+	 * Extracts from shard i, which the caller holds the lock for, and publishes the
+	 * shard's new top.
+	 * @param i The shard index
+	 * @return the extracted item
+	 */
+	private E takeLocked(int i) {
+		E item = shards[i].extractMax();
+		tops.set(i, shards[i].isEmpty() ? null : shards[i].peek());
+		return item;
+	}
+
+	/**
+	 * Returns the number of items in this priority queue. O(1)
+	 */
+	public int size() {
+		return Math.max(0, size.get());
+	}
+
+	/**
+	 * Returns true if this priority queue is empty, false otherwise. O(1)
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Empties this priority queue of items. Items added concurrently with the call
+	 * may survive it. O(N)
+	 */
+	public void clear() {
+		if (ordering == Ordering.STRICT) {
+			while (skipList.pollFirst() != null)
+				size.decrementAndGet();
+			return;
+		}
+		for (int i = 0; i < shards.length; i++) {
+			locks[i].lock();
+			try {
+				size.addAndGet(-shards[i].size());
+				shards[i].clear();
+				tops.set(i, null);
+			} finally {
+				locks[i].unlock();
+			}
+		}
+	}
+
+	/**
+	 * Creates and returns an array of the items in this priority queue, with the
+	 * maximum item at index 0. In RELAXED mode the rest follow shard by shard, in
+	 * each shard's backing array order. The result is a snapshot and may miss items
+	 * that move concurrently. O(N)
+	 */
+	public Object[] toArray() {
+		if (ordering == Ordering.STRICT) {
+			List<Object> items = new ArrayList<>();
+			for (Entry<E> entry : skipList)
+				items.add(entry.item);
+			return items.toArray();
+		}
+		List<Object> items = new ArrayList<>();
+		int best = -1;
+		for (int i = 0; i < shards.length; i++) {
+			locks[i].lock();
+			try {
+				Object[] shard = shards[i].toArray();
+				if (shard.length > 0 && (best < 0 || compareItems(items.get(best), shard[0]) < 0))
+					best = items.size();
+				for (Object o : shard)
+					items.add(o);
+			} finally {
+				locks[i].unlock();
+			}
+		}
+		if (best > 0)
+			items.set(0, items.set(best, items.get(0)));
+		return items.toArray();
+	}
+
+	/**
+	 * Compares two items taken out of shard arrays.
+	 */
+	@SuppressWarnings("unchecked")
+	private int compareItems(Object a, Object b) {
+		return cmp.compare((E) a, (E) b);
+	}
+}
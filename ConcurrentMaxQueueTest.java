@@ -0,0 +1,96 @@
+package assign10;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.jupiter.api.Test;
+
+import assign10.ConcurrentMaxQueue.Ordering;
+
+class ConcurrentMaxQueueTest {
+
+	@Test
+	void testStrictOrderSingleThread() {
+		ConcurrentMaxQueue<Integer> queue = new ConcurrentMaxQueue<>(Ordering.STRICT);
+		for (int i = 0; i < 100; i++)
+			queue.add(i % 10);
+		assertEquals(100, queue.size());
+		assertEquals(9, queue.peek());
+		for (int i = 99; i >= 0; i--)
+			assertEquals(i / 10, queue.extractMax());
+		assertTrue(queue.isEmpty());
+	}
+
+	@Test
+	void testRelaxedKeepsEveryItem() {
+		ConcurrentMaxQueue<Integer> queue = new ConcurrentMaxQueue<>(Ordering.RELAXED, 4, Integer::compare);
+		for (int i = 0; i < 1000; i++)
+			queue.add(i);
+		assertEquals(999, queue.peek());
+		assertEquals(999, queue.toArray()[0]);
+		Set<Integer> seen = new HashSet<>();
+		while (!queue.isEmpty())
+			seen.add(queue.extractMax());
+		assertEquals(1000, seen.size());
+	}
+
+	@Test
+	void testEmpty() {
+		for (Ordering ordering : Ordering.values()) {
+			ConcurrentMaxQueue<Integer> queue = new ConcurrentMaxQueue<>(ordering);
+			assertThrows(NoSuchElementException.class, () -> queue.peek());
+			assertThrows(NoSuchElementException.class, () -> queue.extractMax());
+		}
+	}
+
+	@Test
+	void testClear() {
+		for (Ordering ordering : Ordering.values()) {
+			ConcurrentMaxQueue<Integer> queue = new ConcurrentMaxQueue<>(ordering);
+			for (int i = 0; i < 50; i++)
+				queue.add(i);
+			queue.clear();
+			assertTrue(queue.isEmpty());
+			assertEquals(0, queue.toArray().length);
+		}
+	}
+
+	@Test
+	void testRelaxedRejectsOneShard() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new ConcurrentMaxQueue<Integer>(Ordering.RELAXED, 1, Integer::compare));
+	}
+
+	@Test
+	void testConcurrentProducersAndConsumers() throws InterruptedException {
+		for (Ordering ordering : Ordering.values()) {
+			ConcurrentMaxQueue<Integer> queue = new ConcurrentMaxQueue<>(ordering);
+			ConcurrentLinkedQueue<Integer> taken = new ConcurrentLinkedQueue<>();
+			List<Thread> threads = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				int base = t * 10000;
+				threads.add(new Thread(() -> {
+					for (int i = 0; i < 10000; i++) {
+						queue.add(base + i);
+						if (i % 2 == 0)
+							taken.add(queue.extractMax());
+					}
+				}));
+			}
+			for (Thread thread : threads)
+				thread.start();
+			for (Thread thread : threads)
+				thread.join();
+			while (!queue.isEmpty())
+				taken.add(queue.extractMax());
+			assertEquals(80000, taken.size());
+			assertEquals(80000, new HashSet<>(taken).size());
+		}
+	}
+}
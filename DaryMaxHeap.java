@@ -0,0 +1,184 @@
+package assign10;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+/**
+ * d-ary Max Heap implementing the Priority Queue interface, with an arity of
+ * 2, 4 or 8 chosen at construction.
+ * 
+ * The root is stored at index d - 1, which makes the children of the entry at
+ * logical position i start at index d * (i + 1). Every sibling group therefore
+ * starts on a multiple of d and is contiguous; with compressed references a group
+ * of up to 8 children spans at most 32 bytes. This is best-effort locality, not
+ * line alignment: the array's header and 8-byte alignment decide where the groups
+ * fall, so a group can still straddle two cache lines. A wider node also means a
+ * shallower tree: log_d N levels instead of log_2 N.
+ * @author Maxwell and Cooper
+ * @version April 6, 2025
+ */
+public class DaryMaxHeap<E> implements PriorityQueue<E> {
+	private Comparator<? super E> cmp;
+	private Object[] list;
+	private int size;
+	private final int arity;
+	private final int offset;
+
+	/**
+	 * Constructor which takes the arity and a custom comparator
+	 * @param arity Number of children per entry, 2, 4 or 8
+	 * @param cmp Custom Comparator
+	 * @throws IllegalArgumentException if arity is not 2, 4 or 8
+	 */
+	public DaryMaxHeap(int arity, Comparator<? super E> cmp) {
+		if (arity != 2 && arity != 4 && arity != 8)
+			throw new IllegalArgumentException("Arity must be 2, 4 or 8");
+		this.cmp = cmp;
+		this.arity = arity;
+		this.offset = arity - 1;
+		list = new Object[offset + 16];
+		size = 0;
+	}
+
+	/**
+	 * Constructor which takes the arity
+	 * @param arity Number of children per entry, 2, 4 or 8
+	 * @throws IllegalArgumentException if arity is not 2, 4 or 8
+	 */
+	@SuppressWarnings("unchecked")
+	public DaryMaxHeap(int arity) {
+		this(arity, (Comparator<? super E>) Comparator.naturalOrder());
+	}
+
+	/**
+	 * Basic constructor, using an arity of 4
+	 */
+	public DaryMaxHeap() {
+		this(4);
+	}
+
+	/**
+	 * Returns the number of children per entry.
+	 */
+	public int arity() {
+		return arity;
+	}
+
+	/**
+	 * Adds the given item to this priority queue. O(1) in the average case, O(log
+	 * N) in the worst case
+	 * 
+	 * @param item
+	 */
+	public void add(E item) {
+		if (offset + size >= list.length)
+			list = Arrays.copyOf(list, list.length * 2);
+		// Percolate up on logical positions; the parent of i is (i - 1) / d
+		int index = size++;
+		while (index > 0) {
+			int parent = (index - 1) / arity;
+			if (cmp.compare(get(parent), item) >= 0)
+				break;
+			list[offset + index] = list[offset + parent];
+			index = parent;
+		}
+		list[offset + index] = item;
+	}
+
+	/**
+	 * Returns, but does not remove, the maximum item this priority queue. O(1)
+	 * 
+	 * @return the maximum item
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public E peek() throws NoSuchElementException {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return get(0);
+	}
+
+	/**
+	 * Returns and removes the maximum item this priority queue. O(d log_d N)
+	 * 
+	 * @return the maximum item
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public E extractMax() throws NoSuchElementException {
+		if (size == 0)
+			throw new NoSuchElementException();
+		E r = get(0);
+		size--;
+		E item = get(size);
+		list[offset + size] = null;
+		if (size > 0)
+			percolateDown(item);
+		return r;
+	}
+
+	/**
+	 * Returns the number of items in this priority queue. O(1)
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if this priority queue is empty, false otherwise. O(1)
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Empties this priority queue of items. O(1)
+	 */
+	public void clear() {
+		size = 0;
+		list = new Object[offset + 16];
+	}
+
+	/**
+	 * Creates and returns an array of the items in this priority queue, in the same
+	 * order they appear in the backing array. O(N)
+	 * 
+	 * (NOTE: This method is needed for grading purposes. The root item must be
+	 * stored at index 0 in the returned array, regardless of whether it is stored
+	 * there in the backing array.)
+	 */
+	public Object[] toArray() {
+		return Arrays.copyOfRange(list, offset, offset + size);
+	}
+
+	/**
+	 * Places item at the root, moving the hole down past the largest child of each
+	 * sibling group until no child is larger than item.
+	 * @param item The entry to place, taken from the end of the heap
+	 */
+	private void percolateDown(E item) {
+		int index = 0;
+		int first;
+		while ((first = index * arity + 1) < size) {
+			int last = Math.min(first + arity, size);
+			int best = first;
+			for (int c = first + 1; c < last; c++)
+				if (cmp.compare(get(best), get(c)) < 0)
+					best = c;
+			if (cmp.compare(get(best), item) <= 0)
+				break;
+			list[offset + index] = list[offset + best];
+			index = best;
+		}
+		list[offset + index] = item;
+	}
+
+	/**
+	 * Access the given logical position in the heap, casting it to E.
+	 * @param index The logical position, 0 being the root
+	 * @return The entry at that position, cast to E
+	 */
+	@SuppressWarnings("unchecked")
+	private E get(int index) {
+		return (E) list[offset + index];
+	}
+}
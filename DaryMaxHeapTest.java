@@ -0,0 +1,75 @@
+package assign10;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class DaryMaxHeapTest {
+
+	@Test
+	void testInvalidArity() {
+		assertThrows(IllegalArgumentException.class, () -> new DaryMaxHeap<Integer>(3));
+		assertThrows(IllegalArgumentException.class, () -> new DaryMaxHeap<Integer>(1));
+	}
+
+	@Test
+	void testEmpty() {
+		DaryMaxHeap<Integer> heap = new DaryMaxHeap<>();
+		assertTrue(heap.isEmpty());
+		assertThrows(NoSuchElementException.class, () -> heap.peek());
+		assertThrows(NoSuchElementException.class, () -> heap.extractMax());
+	}
+
+	@Test
+	void testToArrayRootFirst() {
+		DaryMaxHeap<Integer> heap = new DaryMaxHeap<>(4);
+		heap.add(1);
+		heap.add(2);
+		heap.add(3);
+		heap.add(9);
+		heap.add(5);
+		Object[] array = heap.toArray();
+		assertEquals(5, array.length);
+		assertEquals(9, array[0]);
+	}
+
+	@Test
+	void testMatchesBinaryMaxHeapEveryArity() {
+		for (int arity : new int[] { 2, 4, 8 }) {
+			Random rng = new Random(arity);
+			DaryMaxHeap<Integer> dary = new DaryMaxHeap<>(arity);
+			BinaryMaxHeap<Integer> binary = new BinaryMaxHeap<>();
+			for (int i = 0; i < 2000; i++) {
+				if (binary.isEmpty() || rng.nextInt(3) > 0) {
+					int value = rng.nextInt(100);
+					dary.add(value);
+					binary.add(value);
+				} else {
+					assertEquals(binary.extractMax(), dary.extractMax());
+				}
+			}
+			while (!binary.isEmpty())
+				assertEquals(binary.extractMax(), dary.extractMax());
+			assertTrue(dary.isEmpty());
+		}
+	}
+
+	@Test
+	void testCustomComparator() {
+		DaryMaxHeap<Integer> heap = new DaryMaxHeap<>(8, Collections.reverseOrder());
+		List<Integer> values = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+			values.add(i);
+		Collections.shuffle(values, new Random(1));
+		for (int v : values)
+			heap.add(v);
+		for (int i = 0; i < 100; i++)
+			assertEquals(i, heap.extractMax());
+	}
+}
@@ -0,0 +1,198 @@
+package assign10;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming form of DeltaSorter: puts an unbounded sequence that is at most delta
+ * positions out of descending order back into descending order, holding only
+ * delta + 1 items at a time.
+ * 
+ * Used push-style, items are passed to accept and released to the downstream
+ * consumer as soon as delta newer items have arrived behind them, which is the
+ * earliest point no later item can outrank them. flush releases the rest at end
+ * of stream. Used pull-style, iterator and stream wrap a source and do the same
+ * lazily.
+ * 
+ * If the input breaks the delta bound, an item comes out larger than the one
+ * released before it. Every such item is counted, passed to the violation handler
+ * if one was given, and then released anyway. A handler that throws turns the
+ * check into a hard failure.
+ * 
+ * @author Maxwell and Cooper
+ * @version April 6, 2025
+ */
+public class DeltaReorderer<T> implements Consumer<T> {
+	private final BinaryMaxHeap<T> window;
+	private final Comparator<? super T> cmp;
+	private final int delta;
+	private final Consumer<? super T> downstream;
+	private final Consumer<? super T> onViolation;
+	private T last;
+	private boolean released;
+	private long violations;
+
+	/**
+	 * Constructor for a push-style stage that reports bound violations
+	 * @param delta How far out of order the input may be
+	 * @param cmp Comparator for ordering the items
+	 * @param downstream Receives the items in descending order
+	 * @param onViolation Receives each item that comes out of order, or null
+	 * @throws IllegalArgumentException if delta is negative
+	 */
+	public DeltaReorderer(int delta, Comparator<? super T> cmp, Consumer<? super T> downstream,
+			Consumer<? super T> onViolation) {
+		if (delta < 0)
+			throw new IllegalArgumentException("delta must not be negative");
+		this.delta = delta;
+		this.cmp = cmp;
+		this.downstream = downstream;
+		this.onViolation = onViolation;
+		window = new BinaryMaxHeap<>(cmp, delta + 1);
+	}
+
+	/**
+	 * Constructor for a push-style stage
+	 * @param delta How far out of order the input may be
+	 * @param cmp Comparator for ordering the items
+	 * @param downstream Receives the items in descending order
+	 * @throws IllegalArgumentException if delta is negative
+	 */
+	public DeltaReorderer(int delta, Comparator<? super T> cmp, Consumer<? super T> downstream) {
+		this(delta, cmp, downstream, null);
+	}
+
+	/**
+	 * Takes the next item of the input, releasing the largest held item downstream
+	 * once more than delta are held. O(log delta)
+	 * 
+	 * @param item the next input item
+	 */
+	public void accept(T item) {
+		window.add(item);
+		if (window.size() > delta)
+			downstream.accept(release());
+	}
+
+	/**
+	 * Releases every held item downstream, for the end of the input. The stage can be
+	 * reused afterwards for a new input. O(delta log delta)
+	 */
+	public void flush() {
+		while (!window.isEmpty())
+			downstream.accept(release());
+		released = false;
+		last = null;
+	}
+
+	/**
+	 * Returns the number of items held back, at most delta.
+	 */
+	public int pending() {
+		return window.size();
+	}
+
+	/**
+	 * Returns how many items have come out larger than the item before them, meaning
+	 * the input broke the delta bound.
+	 */
+	public long violations() {
+		return violations;
+	}
+
+	/**
+	 * Extracts the largest held item and checks it against the last one released.
+	 */
+	private T release() {
+		T item = window.extractMax();
+		if (released && cmp.compare(item, last) > 0) {
+			violations++;
+			if (onViolation != null)
+				onViolation.accept(item);
+		}
+		released = true;
+		last = item;
+		return item;
+	}
+
+	/**
+	 * Wraps source in an iterator that returns its items in descending order, reading
+	 * at most delta items ahead.
+	 * 
+	 * @param source items at most delta positions out of descending order
+	 * @param delta how far out of order the source may be
+	 * @param cmp comparator for ordering the items
+	 * @param onViolation receives each item that comes out of order, or null
+	 * @return an iterator over the reordered items
+	 * @throws IllegalArgumentException if delta is negative
+	 */
+	public static <T> Iterator<T> iterator(Iterator<? extends T> source, int delta, Comparator<? super T> cmp,
+			Consumer<? super T> onViolation) {
+		DeltaReorderer<T> stage = new DeltaReorderer<>(delta, cmp, null, onViolation);
+		return new Iterator<T>() {
+			public boolean hasNext() {
+				while (stage.window.size() <= delta && source.hasNext())
+					stage.window.add(source.next());
+				return !stage.window.isEmpty();
+			}
+
+			public T next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+				return stage.release();
+			}
+		};
+	}
+
+	/**
+	 * Wraps source in an iterator that returns its items in descending order, reading
+	 * at most delta items ahead.
+	 * 
+	 * @param source items at most delta positions out of descending order
+	 * @param delta how far out of order the source may be
+	 * @param cmp comparator for ordering the items
+	 * @return an iterator over the reordered items
+	 * @throws IllegalArgumentException if delta is negative
+	 */
+	public static <T> Iterator<T> iterator(Iterator<? extends T> source, int delta, Comparator<? super T> cmp) {
+		return iterator(source, delta, cmp, null);
+	}
+
+	/**
+	 * Wraps source in a sequential stream of its items in descending order, reading
+	 * at most delta items ahead. Closing the result closes source.
+	 * 
+	 * @param source items at most delta positions out of descending order
+	 * @param delta how far out of order the source may be
+	 * @param cmp comparator for ordering the items
+	 * @param onViolation receives each item that comes out of order, or null
+	 * @return a stream of the reordered items
+	 * @throws IllegalArgumentException if delta is negative
+	 */
+	public static <T> Stream<T> stream(Stream<? extends T> source, int delta, Comparator<? super T> cmp,
+			Consumer<? super T> onViolation) {
+		Iterator<T> it = iterator(source.iterator(), delta, cmp, onViolation);
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED), false)
+				.onClose(source::close);
+	}
+
+	/**
+	 * Wraps source in a sequential stream of its items in descending order, reading
+	 * at most delta items ahead. Closing the result closes source.
+	 * 
+	 * @param source items at most delta positions out of descending order
+	 * @param delta how far out of order the source may be
+	 * @param cmp comparator for ordering the items
+	 * @return a stream of the reordered items
+	 * @throws IllegalArgumentException if delta is negative
+	 */
+	public static <T> Stream<T> stream(Stream<? extends T> source, int delta, Comparator<? super T> cmp) {
+		return stream(source, delta, cmp, null);
+	}
+}
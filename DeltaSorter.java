@@ -1,12 +1,32 @@
 package assign10;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * This class contains generic static methods for sorting a descending delta-sorted list.
  * The result of both methods is that the list will be in descending order.
  * 
+ * The primitive array overloads do the same for long[] and double[], with a primitive
+ * heap sized to exactly delta + 1 items, so they never box and never grow the heap.
+ * The parallel versions split a large list into chunks sorted on a ForkJoinPool.
+ * sortAdaptive measures delta itself and picks the cheapest way to sort.
+ * sortFile sorts files of fixed-width records that are too large for memory.
+ * 
  * @author CS 2420 course staff, Maxwell, Cooper
  * @version April 6, 2025
  */
@@ -23,17 +43,7 @@ public class DeltaSorter {
 	 *         equal to the size of the list
 	 */
 	public static <T extends Comparable<? super T>> void sort(List<T> list, int delta){
-		BinaryMaxHeap<T> sorter = new BinaryMaxHeap<>();
-		int i = 0;
-		int j = 0;
-		while(i < delta)
-			sorter.add(list.get(i++));
-		while(i < list.size()) {
-			sorter.add(list.get(i++));
-			list.set(j++, sorter.extractMax());
-		}
-		while(j < list.size())
-			list.set(j++, sorter.extractMax());
+		sort(list, delta, Comparator.naturalOrder());
 	}
 	
 	/**
@@ -41,6 +51,10 @@ public class DeltaSorter {
 	 * After completing, the provided list will contain the same items in descending order.
 	 * This version uses a provided comparator to order the elements.
 	 * 
+	 * Lists without fast random access, such as LinkedList, are copied into an
+	 * ArrayList, sorted there, and written back in one pass with a ListIterator, so
+	 * the sort stays O(N log delta) instead of paying O(N) per get and set.
+	 * 
 	 * @param list to sort that is currently delta-sorted and will be fully sorted
 	 * @param delta value of the delta-sorted list
 	 * @param cmp Comparator for ordering the elements
@@ -48,7 +62,506 @@ public class DeltaSorter {
 	 *         equal to the size of the list
 	 */
 	public static <T> void sort(List<T> list, int delta, Comparator<? super T> cmp){
-		BinaryMaxHeap<T> sorter = new BinaryMaxHeap<>(cmp);
+		checkDelta(delta, list.size());
+		if (list instanceof RandomAccess) {
+			sortRandomAccess(list, delta, cmp);
+			return;
+		}
+		List<T> copy = new ArrayList<>(list);
+		sortRandomAccess(copy, delta, cmp);
+		ListIterator<T> it = list.listIterator();
+		for (T item : copy) {
+			it.next();
+			it.set(item);
+		}
+	}
+
+	/**
+	 * Fully sorts a descending, delta-sorted array of longs in place.
+	 * 
+	 * @param array to sort that is currently delta-sorted and will be fully sorted
+	 * @param delta value of the delta-sorted array
+	 * @throws IllegalArgumentException if delta is less than 0 or greater than or
+	 *         equal to the length of the array
+	 */
+	public static void sort(long[] array, int delta) {
+		sort(array, 0, array.length, delta);
+	}
+
+	/**
+	 * Fully sorts a descending, delta-sorted slice of an array of longs in place.
+	 * Only the items from index from, inclusive, to index to, exclusive, are touched.
+	 * 
+	 * @param array containing the slice to sort
+	 * @param from first index of the slice
+	 * @param to index just past the end of the slice
+	 * @param delta value of the delta-sorted slice
+	 * @throws IllegalArgumentException if delta is less than 0 or greater than or
+	 *         equal to the length of the slice
+	 * @throws IndexOutOfBoundsException if the slice is not within the array
+	 */
+	public static void sort(long[] array, int from, int to, int delta) {
+		Objects.checkFromToIndex(from, to, array.length);
+		checkDelta(delta, to - from);
+		LongMaxHeap sorter = new LongMaxHeap(delta + 1);
+		int i = from;
+		int j = from;
+		while(i < from + delta)
+			sorter.add(array[i++]);
+		while(i < to) {
+			sorter.add(array[i++]);
+			array[j++] = sorter.extractMax();
+		}
+		while(j < to)
+			array[j++] = sorter.extractMax();
+	}
+
+	/**
+	 * Fully sorts a descending, delta-sorted array of doubles in place. Doubles are
+	 * ordered as by Double.compare.
+	 * 
+	 * @param array to sort that is currently delta-sorted and will be fully sorted
+	 * @param delta value of the delta-sorted array
+	 * @throws IllegalArgumentException if delta is less than 0 or greater than or
+	 *         equal to the length of the array
+	 */
+	public static void sort(double[] array, int delta) {
+		sort(array, 0, array.length, delta);
+	}
+
+	/**
+	 * Fully sorts a descending, delta-sorted slice of an array of doubles in place.
+	 * Only the items from index from, inclusive, to index to, exclusive, are touched.
+	 * Doubles are ordered as by Double.compare.
+	 * 
+	 * @param array containing the slice to sort
+	 * @param from first index of the slice
+	 * @param to index just past the end of the slice
+	 * @param delta value of the delta-sorted slice
+	 * @throws IllegalArgumentException if delta is less than 0 or greater than or
+	 *         equal to the length of the slice
+	 * @throws IndexOutOfBoundsException if the slice is not within the array
+	 */
+	public static void sort(double[] array, int from, int to, int delta) {
+		Objects.checkFromToIndex(from, to, array.length);
+		checkDelta(delta, to - from);
+		DoubleMaxHeap sorter = new DoubleMaxHeap(delta + 1);
+		int i = from;
+		int j = from;
+		while(i < from + delta)
+			sorter.add(array[i++]);
+		while(i < to) {
+			sorter.add(array[i++]);
+			array[j++] = sorter.extractMax();
+		}
+		while(j < to)
+			array[j++] = sorter.extractMax();
+	}
+
+	/**
+	 * Fully sorts a descending, delta-sorted list, splitting the work across the
+	 * common ForkJoinPool. This version uses the natural ordering of the elements.
+	 * 
+	 * @param list to sort that is currently delta-sorted and will be fully sorted
+	 * @param delta value of the delta-sorted list
+	 * @throws IllegalArgumentException if delta is less than 0 or greater than or
+	 *         equal to the size of the list
+	 */
+	public static <T extends Comparable<? super T>> void parallelSort(List<T> list, int delta) {
+		parallelSort(list, delta, Comparator.naturalOrder(), ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Fully sorts a descending, delta-sorted list, splitting the work across the given
+	 * ForkJoinPool.
+	 * 
+	 * No item is more than delta positions from where it belongs, so the items that
+	 * belong in output positions [a, b) all start somewhere in [a - delta, b + delta).
+	 * Each chunk [a, b) is therefore sorted on its own: a task runs the bounded heap
+	 * over that window of the input and keeps only what lands in [a, b). The windows
+	 * of neighbouring chunks overlap by 2 * delta around each seam, which is the only
+	 * repeated work, so chunks are kept large relative to delta. The input is
+	 * snapshotted into an array first so every task reads the original order.
+	 * 
+	 * @param list to sort that is currently delta-sorted and will be fully sorted
+	 * @param delta value of the delta-sorted list
+	 * @param cmp Comparator for ordering the elements
+	 * @param pool ForkJoinPool to run the chunks on
+	 * @throws IllegalArgumentException if delta is less than 0 or greater than or
+	 *         equal to the size of the list
+	 */
+	public static <T> void parallelSort(List<T> list, int delta, Comparator<? super T> cmp, ForkJoinPool pool) {
+		checkDelta(delta, list.size());
+		int n = list.size();
+		int chunk = Math.max(PARALLEL_MIN_CHUNK, 8 * delta);
+		if (n <= chunk) {
+			sort(list, delta, cmp);
+			return;
+		}
+		Object[] input = list.toArray();
+		Object[] output = new Object[n];
+		pool.invoke(new ChunkSort<T>(input, output, 0, n, delta, chunk, cmp));
+		ListIterator<T> it = list.listIterator();
+		for (Object item : output) {
+			it.next();
+			it.set(castItem(item));
+		}
+	}
+
+	/**
+	 * How sortAdaptive sorted a list.
+	 */
+	public enum Strategy {
+		/** The list was already in descending order; nothing was moved. */
+		ALREADY_SORTED,
+		/** Insertion sort, for a delta of at most INSERTION_SORT_MAX_DELTA. */
+		INSERTION_SORT,
+		/** The bounded heap, as in sort. */
+		BOUNDED_HEAP,
+		/** List.sort, for a delta too close to the size of the list to help. */
+		FULL_SORT
+	}
+
+	/**
+	 * What sortAdaptive measured and chose, for tracking input quality.
+	 */
+	public static class Report {
+		private final int delta;
+		private final Strategy strategy;
+
+		private Report(int delta, Strategy strategy) {
+			this.delta = delta;
+			this.strategy = strategy;
+		}
+
+		/**
+		 * Returns the measured delta: an upper bound on how far items had to move,
+		 * and the delta the bounded heap was, or would have been, run with.
+		 */
+		public int delta() {
+			return delta;
+		}
+
+		/**
+		 * Returns the strategy used to sort the list.
+		 */
+		public Strategy strategy() {
+			return strategy;
+		}
+
+		public String toString() {
+			return strategy + " (delta " + delta + ")";
+		}
+	}
+
+	/**
+	 * Largest measured delta sortAdaptive uses insertion sort for.
+	 */
+	public static final int INSERTION_SORT_MAX_DELTA = 8;
+
+	/**
+	 * Fully sorts a list into descending order without being told delta. This version
+	 * uses the natural ordering of the elements. See the comparator version.
+	 * 
+	 * @param list to sort into descending order
+	 * @return what was measured and which strategy was used
+	 */
+	public static <T extends Comparable<? super T>> Report sortAdaptive(List<T> list) {
+		return sortAdaptive(list, Comparator.naturalOrder());
+	}
+
+	/**
+	 * Fully sorts a list into descending order without being told delta.
+	 * 
+	 * One pass over the list measures delta, then the cheapest strategy for it is
+	 * used: nothing for an already sorted list, insertion sort for a delta up to
+	 * INSERTION_SORT_MAX_DELTA, the bounded heap for a moderate delta, and List.sort
+	 * once delta passes a quarter of the list, where a heap of that size costs as much
+	 * as a full sort.
+	 * 
+	 * The measured delta is a safe upper bound: for each item it is the distance back
+	 * to the first earlier item that ranks below it, since an item can only need to
+	 * move past earlier items that rank below it. A single low item near the front
+	 * inflates it, which can push the choice to a full sort, but it can never be too
+	 * small.
+	 * 
+	 * @param list to sort into descending order
+	 * @param cmp Comparator for ordering the elements
+	 * @return what was measured and which strategy was used
+	 */
+	public static <T> Report sortAdaptive(List<T> list, Comparator<? super T> cmp) {
+		if (!(list instanceof RandomAccess)) {
+			List<T> copy = new ArrayList<>(list);
+			Report report = sortAdaptive(copy, cmp);
+			ListIterator<T> it = list.listIterator();
+			for (T item : copy) {
+				it.next();
+				it.set(item);
+			}
+			return report;
+		}
+		int n = list.size();
+		int delta = measureDelta(list, cmp);
+		Strategy strategy;
+		if (delta == 0) {
+			strategy = Strategy.ALREADY_SORTED;
+		} else if (delta <= INSERTION_SORT_MAX_DELTA) {
+			strategy = Strategy.INSERTION_SORT;
+			insertionSort(list, cmp);
+		} else if (delta <= n / 4) {
+			strategy = Strategy.BOUNDED_HEAP;
+			sortRandomAccess(list, delta, cmp);
+		} else {
+			strategy = Strategy.FULL_SORT;
+			list.sort(cmp.reversed());
+		}
+		return new Report(delta, strategy);
+	}
+
+	/**
+	 * Measures an upper bound on delta in one pass. The running minimum of the
+	 * prefix only steps down at "record lows", kept in order of position with
+	 * strictly falling values; the first earlier item ranking below item i is the
+	 * first record low below it, found by binary search.
+	 */
+	private static <T> int measureDelta(List<T> list, Comparator<? super T> cmp) {
+		int n = list.size();
+		int[] lows = new int[16];
+		int count = 0;
+		int delta = 0;
+		for (int i = 0; i < n; i++) {
+			T item = list.get(i);
+			if (count > 0 && cmp.compare(list.get(lows[count - 1]), item) < 0) {
+				// Some earlier item ranks below this one; find the first
+				int lo = 0;
+				int hi = count - 1;
+				while (lo < hi) {
+					int mid = (lo + hi) >>> 1;
+					if (cmp.compare(list.get(lows[mid]), item) < 0)
+						hi = mid;
+					else
+						lo = mid + 1;
+				}
+				delta = Math.max(delta, i - lows[lo]);
+			}
+			if (count == 0 || cmp.compare(item, list.get(lows[count - 1])) < 0) {
+				if (count == lows.length)
+					lows = Arrays.copyOf(lows, count * 2);
+				lows[count++] = i;
+			}
+		}
+		return delta;
+	}
+
+	/**
+	 * Descending insertion sort, O(N * delta).
+	 */
+	private static <T> void insertionSort(List<T> list, Comparator<? super T> cmp) {
+		for (int i = 1; i < list.size(); i++) {
+			T item = list.get(i);
+			int j = i;
+			while (j > 0 && cmp.compare(list.get(j - 1), item) < 0) {
+				list.set(j, list.get(j - 1));
+				j--;
+			}
+			list.set(j, item);
+		}
+	}
+
+	/**
+	 * Sorts a descending, delta-sorted file of fixed-width records into a new file.
+	 * See the in-place version. If input and output name the same file, it is sorted
+	 * in place.
+	 * 
+	 * @param input file of records that is currently delta-sorted by key
+	 * @param output file to write the fully sorted records to, replaced if it exists
+	 * @param recordSize width of every record in bytes
+	 * @param key reads a record's key from its bytes
+	 * @param delta value of the delta-sorted file
+	 * @throws IOException if either file cannot be opened or mapped
+	 * @throws IllegalArgumentException if the file length is not a multiple of
+	 *         recordSize, or delta is less than 0 or greater than or equal to the
+	 *         number of records
+	 */
+	public static void sortFile(Path input, Path output, int recordSize, RecordKey key, int delta) throws IOException {
+		// Opening the output would truncate the input before it is read
+		if (Files.exists(output) && Files.isSameFile(input, output)) {
+			sortFile(input, recordSize, key, delta);
+			return;
+		}
+		try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+				FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+						StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			sortChannel(in, out, recordSize, key, delta);
+		}
+	}
+
+	/**
+	 * Sorts a descending, delta-sorted file of fixed-width records in place, by key,
+	 * largest first.
+	 * 
+	 * The file is memory-mapped and read front to back, window by window, so files far
+	 * larger than memory work. Records go straight from the mapping into a
+	 * RecordMaxHeap of delta + 1 records outside the Java heap, and from there
+	 * straight to the output mapping, so no record is ever copied into a Java object.
+	 * Sorting in place is safe because a record is always written to a position the
+	 * pass has already read.
+	 * 
+	 * @param file file of records that is currently delta-sorted by key
+	 * @param recordSize width of every record in bytes
+	 * @param key reads a record's key from its bytes
+	 * @param delta value of the delta-sorted file
+	 * @throws IOException if the file cannot be opened or mapped
+	 * @throws IllegalArgumentException if the file length is not a multiple of
+	 *         recordSize, or delta is less than 0 or greater than or equal to the
+	 *         number of records
+	 */
+	public static void sortFile(Path file, int recordSize, RecordKey key, int delta) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			sortChannel(channel, channel, recordSize, key, delta);
+		}
+	}
+
+	/**
+	 * Bytes mapped at a time by sortFile, rounded down to whole records.
+	 */
+	private static final int FILE_WINDOW_BYTES = 64 << 20;
+
+	private static void sortChannel(FileChannel in, FileChannel out, int recordSize, RecordKey key, int delta)
+			throws IOException {
+		if (recordSize <= 0 || in.size() % recordSize != 0)
+			throw new IllegalArgumentException("File length is not a multiple of " + recordSize);
+		long count = in.size() / recordSize;
+		if (delta < 0 || (delta >= count && count > 0))
+			throw new IllegalArgumentException("delta must be in [0, " + count + ")");
+		if (count == 0)
+			return;
+		RecordMaxHeap sorter = RecordMaxHeap.offHeap(recordSize, delta + 1, key);
+		RecordWindow reader = new RecordWindow(in, FileChannel.MapMode.READ_ONLY, recordSize, count);
+		RecordWindow writer = new RecordWindow(out, FileChannel.MapMode.READ_WRITE, recordSize, count);
+		long i = 0;
+		long j = 0;
+		while(i < delta)
+			sorter.add(reader.at(i++));
+		while(i < count) {
+			sorter.add(reader.at(i++));
+			sorter.extractMax(writer.at(j++));
+		}
+		while(j < count)
+			sorter.extractMax(writer.at(j++));
+		writer.force();
+	}
+
+	/**
+	 * A sliding memory mapping over a file of records. at maps a new window of
+	 * FILE_WINDOW_BYTES whenever the requested record falls outside the current one,
+	 * which for a front to back pass means each part of the file is mapped once.
+	 */
+	private static class RecordWindow {
+		private final FileChannel channel;
+		private final FileChannel.MapMode mode;
+		private final int recordSize;
+		private final long count;
+		private final long windowRecords;
+		private MappedByteBuffer buffer;
+		private long first;
+
+		private RecordWindow(FileChannel channel, FileChannel.MapMode mode, int recordSize, long count) {
+			this.channel = channel;
+			this.mode = mode;
+			this.recordSize = recordSize;
+			this.count = count;
+			windowRecords = Math.max(1, FILE_WINDOW_BYTES / recordSize);
+		}
+
+		/**
+		 * Returns the mapping positioned at the start of record index.
+		 */
+		private ByteBuffer at(long index) throws IOException {
+			if (buffer == null || index < first || index >= first + windowRecords) {
+				force();
+				first = index;
+				long records = Math.min(windowRecords, count - index);
+				buffer = channel.map(mode, index * recordSize, records * recordSize);
+			}
+			buffer.position((int) ((index - first) * recordSize));
+			return buffer;
+		}
+
+		/**
+		 * Writes the current window through to the storage device if it is writable.
+		 */
+		private void force() {
+			if (buffer != null && mode == FileChannel.MapMode.READ_WRITE)
+				buffer.force();
+		}
+	}
+
+	/**
+	 * Smallest chunk a parallel sort hands to one task.
+	 */
+	private static final int PARALLEL_MIN_CHUNK = 1 << 14;
+
+	/**
+	 * Sorts output positions [from, to), splitting in half until the range is no
+	 * larger than chunk.
+	 */
+	private static class ChunkSort<T> extends RecursiveAction {
+		private final Object[] input;
+		private final Object[] output;
+		private final int from;
+		private final int to;
+		private final int delta;
+		private final int chunk;
+		private final Comparator<? super T> cmp;
+
+		private ChunkSort(Object[] input, Object[] output, int from, int to, int delta, int chunk,
+				Comparator<? super T> cmp) {
+			this.input = input;
+			this.output = output;
+			this.from = from;
+			this.to = to;
+			this.delta = delta;
+			this.chunk = chunk;
+			this.cmp = cmp;
+		}
+
+		protected void compute() {
+			if (to - from > chunk) {
+				int mid = (from + to) >>> 1;
+				invokeAll(new ChunkSort<T>(input, output, from, mid, delta, chunk, cmp),
+						new ChunkSort<T>(input, output, mid, to, delta, chunk, cmp));
+				return;
+			}
+			int start = Math.max(0, from - delta);
+			int end = Math.min(input.length, to + delta);
+			BinaryMaxHeap<T> sorter = new BinaryMaxHeap<>(cmp, delta + 1);
+			int i = start;
+			int j = start;
+			while(i < start + delta)
+				sorter.add(castItem(input[i++]));
+			while(j < to) {
+				if (i < end)
+					sorter.add(castItem(input[i++]));
+				T max = sorter.extractMax();
+				if (j >= from)
+					output[j] = max;
+				j++;
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T castItem(Object item) {
+		return (T) item;
+	}
+
+	/**
+	 * The heap sort itself, for lists with constant-time get and set. The heap never
+	 * holds more than delta + 1 items, so it is created at that size.
+	 */
+	private static <T> void sortRandomAccess(List<T> list, int delta, Comparator<? super T> cmp) {
+		BinaryMaxHeap<T> sorter = new BinaryMaxHeap<>(cmp, delta + 1);
 		int i = 0;
 		int j = 0;
 		while(i < delta)
@@ -60,4 +573,13 @@ public class DeltaSorter {
 		while(j < list.size())
 			list.set(j++, sorter.extractMax());
 	}
+
+	/**
+	 * Checks delta against the number of items being sorted. An empty input accepts a
+	 * delta of 0.
+	 */
+	private static void checkDelta(int delta, int size) {
+		if (delta < 0 || (delta >= size && size > 0))
+			throw new IllegalArgumentException("delta must be in [0, " + size + ")");
+	}
 }
\ No newline at end of file
@@ -0,0 +1,305 @@
+package assign10;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DeltaSorterTest {
+
+	/**
+	 * Builds n, n - 1, ..., 1 and shuffles each block of delta + 1 items, so no item
+	 * is more than delta positions from where it belongs.
+	 */
+	static long[] deltaSorted(int n, int delta, long seed) {
+		Random rng = new Random(seed);
+		long[] array = new long[n];
+		for (int i = 0; i < n; i++)
+			array[i] = n - i;
+		for (int start = 0; start < n; start += delta + 1) {
+			int end = Math.min(n, start + delta + 1);
+			for (int i = end - 1; i > start; i--) {
+				int k = start + rng.nextInt(i - start + 1);
+				long hold = array[i];
+				array[i] = array[k];
+				array[k] = hold;
+			}
+		}
+		return array;
+	}
+
+	static List<Long> toList(long[] array, List<Long> list) {
+		for (long v : array)
+			list.add(v);
+		return list;
+	}
+
+	static boolean isDescending(long[] array) {
+		for (int i = 1; i < array.length; i++)
+			if (array[i - 1] < array[i])
+				return false;
+		return true;
+	}
+
+	@Test
+	void testSortArrayList() {
+		List<Long> list = toList(deltaSorted(1000, 7, 1), new ArrayList<>());
+		DeltaSorter.sort(list, 7);
+		List<Long> expected = new ArrayList<>(list);
+		expected.sort(Collections.reverseOrder());
+		assertEquals(expected, list);
+	}
+
+	@Test
+	void testSortLinkedList() {
+		List<Long> list = toList(deltaSorted(1000, 5, 2), new LinkedList<>());
+		DeltaSorter.sort(list, 5, Long::compare);
+		for (int i = 0; i < 1000; i++)
+			assertEquals(1000 - i, list.get(i));
+	}
+
+	@Test
+	void testSortLongArray() {
+		long[] array = deltaSorted(5000, 12, 3);
+		DeltaSorter.sort(array, 12);
+		assertTrue(isDescending(array));
+		assertEquals(5000, array[0]);
+	}
+
+	@Test
+	void testSortDoubleArray() {
+		double[] array = Arrays.stream(deltaSorted(5000, 3, 4)).asDoubleStream().toArray();
+		DeltaSorter.sort(array, 3);
+		for (int i = 0; i < 5000; i++)
+			assertEquals(5000 - i, array[i]);
+	}
+
+	@Test
+	void testSortSliceLeavesRestAlone() {
+		long[] array = { 100, 7, 9, 8, 6, -100 };
+		DeltaSorter.sort(array, 1, 5, 1);
+		assertArrayEquals(new long[] { 100, 9, 8, 7, 6, -100 }, array);
+	}
+
+	@Test
+	void testDeltaZeroAndEmpty() {
+		long[] sorted = { 3, 2, 1 };
+		DeltaSorter.sort(sorted, 0);
+		assertArrayEquals(new long[] { 3, 2, 1 }, sorted);
+		DeltaSorter.sort(new long[0], 0);
+	}
+
+	@Test
+	void testInvalidDelta() {
+		assertThrows(IllegalArgumentException.class, () -> DeltaSorter.sort(new long[] { 1, 2 }, 2));
+		assertThrows(IllegalArgumentException.class, () -> DeltaSorter.sort(new double[] { 1, 2 }, -1));
+		assertThrows(IllegalArgumentException.class, () -> DeltaSorter.sort(new ArrayList<>(List.of(1, 2)), 5));
+		assertThrows(IndexOutOfBoundsException.class, () -> DeltaSorter.sort(new long[3], 2, 5, 0));
+	}
+
+	@Test
+	void testReordererPushReleasesEarly() {
+		List<Long> out = new ArrayList<>();
+		DeltaReorderer<Long> stage = new DeltaReorderer<>(4, Long::compare, out::add);
+		long[] input = deltaSorted(100, 4, 5);
+		for (int i = 0; i < 50; i++)
+			stage.accept(input[i]);
+		assertEquals(46, out.size());
+		assertEquals(4, stage.pending());
+		for (int i = 50; i < 100; i++)
+			stage.accept(input[i]);
+		stage.flush();
+		assertEquals(100, out.size());
+		for (int i = 0; i < 100; i++)
+			assertEquals(100 - i, out.get(i));
+		assertEquals(0, stage.violations());
+	}
+
+	@Test
+	void testReordererIterator() {
+		Iterator<Long> it = DeltaReorderer.iterator(toList(deltaSorted(500, 9, 6), new ArrayList<>()).iterator(), 9,
+				Long::compare);
+		for (long expected = 500; expected > 0; expected--)
+			assertEquals(expected, it.next());
+		assertFalse(it.hasNext());
+	}
+
+	@Test
+	void testReordererStream() {
+		List<Long> out = DeltaReorderer.stream(LongStream.of(deltaSorted(300, 2, 7)).boxed(), 2, Long::compare)
+				.collect(Collectors.toList());
+		assertEquals(300, out.size());
+		for (int i = 0; i < 300; i++)
+			assertEquals(300 - i, out.get(i));
+	}
+
+	@Test
+	void testReordererReportsViolations() {
+		List<Integer> bad = new ArrayList<>();
+		List<Integer> out = DeltaReorderer.stream(Stream.of(5, 4, 3, 2, 9), 1, Integer::compare, bad::add)
+				.collect(Collectors.toList());
+		assertEquals(List.of(5, 4, 3, 9, 2), out);
+		assertEquals(List.of(9), bad);
+	}
+
+	@Test
+	void testReordererViolationCanThrow() {
+		DeltaReorderer<Integer> stage = new DeltaReorderer<>(0, Integer::compare, i -> {
+		}, i -> {
+			throw new IllegalStateException("Out of order: " + i);
+		});
+		stage.accept(2);
+		assertThrows(IllegalStateException.class, () -> stage.accept(3));
+		assertEquals(1, stage.violations());
+	}
+
+	@Test
+	void testParallelSortMatchesSequential() {
+		for (int delta : new int[] { 0, 1, 15, 3000 }) {
+			long[] input = deltaSorted(200000, delta, delta);
+			List<Long> parallel = toList(input, new ArrayList<>());
+			DeltaSorter.parallelSort(parallel, delta, Long::compare, new ForkJoinPool(4));
+			for (int i = 0; i < 200000; i++)
+				assertEquals(200000 - i, parallel.get(i));
+		}
+	}
+
+	@Test
+	void testParallelSortDuplicates() {
+		Random rng = new Random(8);
+		List<Integer> list = new ArrayList<>();
+		for (int i = 0; i < 100000; i++)
+			list.add(rng.nextInt(50));
+		list.sort(Collections.reverseOrder());
+		List<Integer> expected = new ArrayList<>(list);
+		for (int i = 0; i + 10 < list.size(); i += 21)
+			Collections.swap(list, i, i + rng.nextInt(11));
+		DeltaSorter.parallelSort(list, 10);
+		assertEquals(expected, list);
+	}
+
+	@Test
+	void testParallelSortSmallListFallsBack() {
+		List<Long> list = toList(deltaSorted(100, 3, 9), new LinkedList<>());
+		DeltaSorter.parallelSort(list, 3);
+		for (int i = 0; i < 100; i++)
+			assertEquals(100 - i, list.get(i));
+	}
+
+	@Test
+	void testAdaptiveAlreadySorted() {
+		List<Long> list = toList(deltaSorted(100, 0, 1), new ArrayList<>());
+		DeltaSorter.Report report = DeltaSorter.sortAdaptive(list);
+		assertEquals(DeltaSorter.Strategy.ALREADY_SORTED, report.strategy());
+		assertEquals(0, report.delta());
+	}
+
+	@Test
+	void testAdaptiveSmallDeltaUsesInsertionSort() {
+		List<Long> list = toList(deltaSorted(1000, 3, 2), new ArrayList<>());
+		DeltaSorter.Report report = DeltaSorter.sortAdaptive(list);
+		assertEquals(DeltaSorter.Strategy.INSERTION_SORT, report.strategy());
+		assertTrue(report.delta() <= 3);
+		for (int i = 0; i < 1000; i++)
+			assertEquals(1000 - i, list.get(i));
+	}
+
+	@Test
+	void testAdaptiveModerateDeltaUsesHeap() {
+		List<Long> list = toList(deltaSorted(10000, 40, 3), new LinkedList<>());
+		DeltaSorter.Report report = DeltaSorter.sortAdaptive(list, Long::compare);
+		assertEquals(DeltaSorter.Strategy.BOUNDED_HEAP, report.strategy());
+		assertTrue(report.delta() <= 40);
+		for (int i = 0; i < 10000; i++)
+			assertEquals(10000 - i, list.get(i));
+	}
+
+	@Test
+	void testAdaptiveShuffledFallsBack() {
+		List<Long> list = toList(deltaSorted(1000, 0, 4), new ArrayList<>());
+		Collections.shuffle(list, new Random(4));
+		DeltaSorter.Report report = DeltaSorter.sortAdaptive(list);
+		assertEquals(DeltaSorter.Strategy.FULL_SORT, report.strategy());
+		for (int i = 0; i < 1000; i++)
+			assertEquals(1000 - i, list.get(i));
+	}
+
+	@Test
+	void testAdaptiveDuplicates() {
+		Random rng = new Random(5);
+		List<Integer> list = new ArrayList<>();
+		for (int i = 0; i < 2000; i++)
+			list.add(rng.nextInt(20));
+		list.sort(Collections.reverseOrder());
+		List<Integer> expected = new ArrayList<>(list);
+		for (int i = 0; i + 30 < list.size(); i += 61)
+			Collections.swap(list, i, i + 30);
+		DeltaSorter.sortAdaptive(list);
+		assertEquals(expected, list);
+	}
+
+	/**
+	 * Writes 12 byte records, an int payload followed by a long key, for the keys in
+	 * the given order.
+	 */
+	static Path writeRecords(Path file, long[] keys) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(keys.length * 12);
+		for (long key : keys)
+			buffer.putInt((int) key * 3).putLong(key);
+		return Files.write(file, buffer.array());
+	}
+
+	static void assertRecordsDescending(Path file, int n) throws IOException {
+		ByteBuffer sorted = ByteBuffer.wrap(Files.readAllBytes(file));
+		assertEquals(n * 12, sorted.capacity());
+		for (int i = 0; i < n; i++) {
+			assertEquals(n - i, sorted.getLong(i * 12 + 4));
+			assertEquals((n - i) * 3, sorted.getInt(i * 12));
+		}
+	}
+
+	@Test
+	void testSortFileToOutput(@TempDir Path dir) throws IOException {
+		Path input = writeRecords(dir.resolve("in.bin"), deltaSorted(10000, 25, 10));
+		Path output = dir.resolve("out.bin");
+		DeltaSorter.sortFile(input, output, 12, RecordKey.longAt(4), 25);
+		assertRecordsDescending(output, 10000);
+	}
+
+	@Test
+	void testSortFileSameInputAndOutput(@TempDir Path dir) throws IOException {
+		Path file = writeRecords(dir.resolve("log.bin"), deltaSorted(10000, 25, 12));
+		DeltaSorter.sortFile(file, dir.resolve(".").resolve("log.bin"), 12, RecordKey.longAt(4), 25);
+		assertEquals(10000 * 12, Files.size(file));
+		assertRecordsDescending(file, 10000);
+	}
+
+	@Test
+	void testSortFileInPlace(@TempDir Path dir) throws IOException {
+		Path file = writeRecords(dir.resolve("log.bin"), deltaSorted(10000, 6, 11));
+		DeltaSorter.sortFile(file, 12, RecordKey.longAt(4), 6);
+		assertRecordsDescending(file, 10000);
+	}
+
+	@Test
+	void testSortFileBadLength(@TempDir Path dir) throws IOException {
+		Path file = Files.write(dir.resolve("odd.bin"), new byte[13]);
+		assertThrows(IllegalArgumentException.class, () -> DeltaSorter.sortFile(file, 12, RecordKey.longAt(4), 0));
+	}
+}
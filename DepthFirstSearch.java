@@ -0,0 +1,161 @@
+package assign07;
+
+import java.util.*;
+
+/**
+ * An iterative depth first search over a Graph. The path being explored lives on an
+ * explicit stack of neighbor iterators, so deep graphs cannot overflow the call stack,
+ * and visited vertices are tracked in a hash map, so checking one is O(1).
+ *
+ * An instance keeps its stack and visited map between searches and reuses them. Rather
+ * than clearing the visited map, each search stamps vertices with a new epoch, so a
+ * search that stops early only pays for the vertices it reached. An instance is not
+ * thread safe, and the graph must not be changed while a search is running.
+ *
+ * @author Maxwe// and Ashley Pedersen
+ * @version March 3, 2025
+ * @param <T> the type of values stored in the vertices
+ */
+public class DepthFirstSearch<T> {
+    /**
+     * Callbacks for the vertices a search reaches.
+     *
+     * @param <T> the type of values stored in the vertices
+     */
+    @FunctionalInterface
+    public interface Visitor<T> {
+        /**
+         * Called the first time the search reaches a vertex, before any of its
+         * neighbors.
+         *
+         * @param vertex the vertex reached
+         * @return true to keep searching, false to stop the search here
+         */
+        boolean preVisit(T vertex);
+
+        /**
+         * Called once every neighbor of a vertex has been explored. Vertices still on
+         * the stack when a search stops early are not post-visited.
+         *
+         * @param vertex the vertex finished
+         */
+        default void postVisit(T vertex) { }
+    }
+
+    private final Graph<T> graph;
+    private final Map<T, Integer> seen = new HashMap<>();
+    private final ArrayList<T> vertices = new ArrayList<>();
+    private final ArrayList<Iterator<T>> iterators = new ArrayList<>();
+    private int epoch;
+    private Integer stamp;
+
+    /**
+     * Creates a search engine over the given graph.
+     *
+     * @param graph the graph to search
+     */
+    public DepthFirstSearch(Graph<T> graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * Searches everything reachable from source.
+     *
+     * @param source the vertex to start from
+     * @param visitor the callbacks for each vertex reached
+     * @return true if the visitor stopped the search early
+     * @throws IllegalArgumentException if source is not in the graph
+     */
+    public boolean search(T source, Visitor<? super T> visitor) {
+        if (graph.adjacent(source) == null)
+            throw new IllegalArgumentException("Source is not in the graph");
+        begin();
+        return visit(source, visitor);
+    }
+
+    /**
+     * Searches the whole graph, starting a new tree from each vertex no earlier tree
+     * reached.
+     *
+     * @param visitor the callbacks for each vertex reached
+     * @return true if the visitor stopped the search early
+     */
+    public boolean searchAll(Visitor<? super T> visitor) {
+        begin();
+        for (T vertex : graph.vertices())
+            if (!isSeen(vertex) && visit(vertex, visitor))
+                return true;
+        return false;
+    }
+
+    /**
+     * Checks whether there is a path from source to destination.
+     *
+     * @param source the source vertex
+     * @param destination the destination vertex
+     * @return boolean if there is a path from source to target
+     */
+    public boolean reachable(T source, T destination) {
+        if (source.equals(destination)) return true;
+        if (graph.adjacent(source) == null || graph.adjacent(destination) == null)
+            return false;
+        return search(source, vertex -> !vertex.equals(destination));
+    }
+
+    /**
+     * Starts a new epoch, so every vertex counts as unvisited again.
+     */
+    private void begin() {
+        if (++epoch == 0 || seen.size() > 2 * graph.size() + 16)
+            seen.clear();
+        stamp = epoch;
+    }
+
+    /**
+     * Private iterative method for depth first search
+     * @param root the vertex to start from
+     * @param visitor the callbacks for each vertex reached
+     * @return true if the visitor stopped the search early
+     */
+    private boolean visit(T root, Visitor<? super T> visitor) {
+        try {
+            if (!enter(root, visitor))
+                return true;
+            while (!iterators.isEmpty()) {
+                int top = iterators.size() - 1;
+                Iterator<T> neighbors = iterators.get(top);
+                if (neighbors.hasNext()) {
+                    T next = neighbors.next();
+                    if (!isSeen(next) && !enter(next, visitor))
+                        return true;
+                } else {
+                    iterators.remove(top);
+                    visitor.postVisit(vertices.remove(top));
+                }
+            }
+            return false;
+        } finally {
+            vertices.clear();
+            iterators.clear();
+        }
+    }
+
+    /**
+     * Marks a vertex visited, pre-visits it and pushes it onto the stack.
+     * @param vertex the vertex reached
+     * @param visitor the callbacks for each vertex reached
+     * @return false if the visitor asked to stop
+     */
+    private boolean enter(T vertex, Visitor<? super T> visitor) {
+        seen.put(vertex, stamp);
+        if (!visitor.preVisit(vertex))
+            return false;
+        vertices.add(vertex);
+        iterators.add(graph.adjacent(vertex).iterator());
+        return true;
+    }
+
+    private boolean isSeen(T vertex) {
+        return stamp.equals(seen.get(vertex));
+    }
+}
@@ -0,0 +1,123 @@
+package assign10;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary Max Heap of primitive doubles implementing DoublePriorityQueue.
+ * Uses the same 1-indexed layout as BinaryMaxHeap, but the backing array is a
+ * double[], so add, peek and extractMax never box and never allocate unless the
+ * array has to grow. Items are ordered by Double.compare, so NaN is the
+ * maximum and -0.0 sorts below 0.0.
+ * @author Maxwell and Cooper
+ * @version April 6, 2025
+ */
+public class DoubleMaxHeap implements DoublePriorityQueue {
+	private double[] list;
+	private int size;
+
+	/**
+	 * Constructor which takes the initial length of the backing array
+	 * @param capacity Number of items the heap can hold before growing
+	 */
+	public DoubleMaxHeap(int capacity) {
+		if (capacity < 0)
+			throw new IllegalArgumentException();
+		list = new double[capacity + 1];
+		size = 0;
+	}
+
+	/**
+	 * Basic constructor
+	 */
+	public DoubleMaxHeap() {
+		this(15);
+	}
+
+	/**
+	 * Adds the given item to this priority queue. O(1) in the average case, O(log
+	 * N) in the worst case
+	 * 
+	 * @param item
+	 */
+	public void add(double item) {
+		size++;
+		if (size >= list.length)
+			list = Arrays.copyOf(list, Math.max(2, list.length * 2));
+		// Percolate up, moving the hole rather than swapping
+		int index = size;
+		while (index > 1 && Double.compare(list[index / 2], item) < 0) {
+			list[index] = list[index / 2];
+			index = index / 2;
+		}
+		list[index] = item;
+	}
+
+	/**
+	 * Returns, but does not remove, the maximum item this priority queue. O(1)
+	 * 
+	 * @return the maximum item
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public double peek() throws NoSuchElementException {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return list[1];
+	}
+
+	/**
+	 * Returns and removes the maximum item this priority queue. O(log N)
+	 * 
+	 * @return the maximum item
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public double extractMax() throws NoSuchElementException {
+		if (size == 0)
+			throw new NoSuchElementException();
+		double r = list[1];
+		double item = list[size--];
+		// Percolate down, moving the hole rather than swapping
+		int index = 1;
+		int child;
+		while ((child = index * 2) <= size) {
+			if (child < size && Double.compare(list[child], list[child + 1]) < 0)
+				child++;
+			if (Double.compare(list[child], item) <= 0)
+				break;
+			list[index] = list[child];
+			index = child;
+		}
+		list[index] = item;
+		return r;
+	}
+
+	/**
+	 * Returns the number of items in this priority queue. O(1)
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if this priority queue is empty, false otherwise. O(1)
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Empties this priority queue of items. Keeps the backing array, since there
+	 * are no references to release. O(1)
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Creates and returns an array of the items in this priority queue, in the same
+	 * order they appear in the backing array, with the root at index 0. O(N)
+	 */
+	public double[] toArray() {
+		return Arrays.copyOfRange(list, 1, size + 1);
+	}
+}
@@ -0,0 +1,39 @@
+package assign07;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A growable list of vertex ids that one leaf task of a parallel traversal collects
+ * before copying them into the shared next frontier in a single block.
+ *
+ * @author Maxwe// and Ashley Pedersen
+ * @version March 3, 2025
+ */
+final class FrontierBuffer {
+    private int[] items = new int[16];
+    private int count;
+
+    /**
+     * Adds a vertex id to the buffer.
+     *
+     * @param v the vertex id
+     */
+    void add(int v) {
+        if (count == items.length)
+            items = Arrays.copyOf(items, count * 2);
+        items[count++] = v;
+    }
+
+    /**
+     * Copies the buffered ids into the shared next frontier, reserving room for them
+     * with one atomic add.
+     *
+     * @param next the shared next frontier
+     * @param tail the shared next frontier's size
+     */
+    void publish(int[] next, AtomicInteger tail) {
+        if (count > 0)
+            System.arraycopy(items, 0, next, tail.getAndAdd(count), count);
+    }
+}
@@ -0,0 +1,278 @@
+package assign07;
+
+import java.util.*;
+
+/**
+ * An immutable snapshot of a Graph, built by Graph.freeze(), for traversal-heavy work.
+ * Each vertex is interned to a dense int id, and the edges are stored in compressed
+ * sparse row form: the out-neighbors of vertex v are targets[offsets[v]] up to
+ * targets[offsets[v + 1]]. Traversals then walk plain int arrays, mark vertices in a
+ * BitSet, and only hash a value to find the ids of the endpoints. The in-edges are kept
+ * in the same form, with each vertex's predecessors in ascending id order and, for
+ * each in-edge, its index among the source's out-edges.
+ *
+ * @author Maxwe// and Ashley Pedersen
+ * @version March 3, 2025
+ * @param <T> the type of values stored in the vertices
+ */
+public class FrozenGraph<T> {
+    private final Object[] vertices;
+    private final Map<T, Integer> ids;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] inOffsets;
+    private final int[] inTargets;
+    private final int[] inRanks;
+
+    /**
+     * Builds the snapshot from a graph's adjacency map.
+     *
+     * @param adjacency map from each vertex to its out-neighbors
+     */
+    FrozenGraph(Map<T, ? extends Collection<T>> adjacency) {
+        int n = adjacency.size();
+        vertices = new Object[n];
+        ids = new HashMap<>(n * 2);
+        int next = 0;
+        int edges = 0;
+        for (Map.Entry<T, ? extends Collection<T>> entry : adjacency.entrySet()) {
+            vertices[next] = entry.getKey();
+            ids.put(entry.getKey(), next++);
+            edges += entry.getValue().size();
+        }
+        offsets = new int[n + 1];
+        targets = new int[edges];
+        int v = 0;
+        int e = 0;
+        for (Collection<T> neighbors : adjacency.values()) {
+            offsets[v++] = e;
+            for (T u : neighbors)
+                targets[e++] = ids.get(u);
+        }
+        offsets[n] = e;
+
+        inOffsets = new int[n + 1];
+        inTargets = new int[edges];
+        inRanks = new int[edges];
+        for (int u : targets)
+            inOffsets[u + 1]++;
+        for (v = 0; v < n; v++)
+            inOffsets[v + 1] += inOffsets[v];
+        int[] fill = Arrays.copyOf(inOffsets, n);
+        for (v = 0; v < n; v++) {
+            for (e = offsets[v]; e < offsets[v + 1]; e++) {
+                inRanks[fill[targets[e]]] = e - offsets[v];
+                inTargets[fill[targets[e]]++] = v;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of vertices in the snapshot
+     *
+     * @return how many vertices the snapshot has
+     */
+    public int size() {
+        return vertices.length;
+    }
+
+    /**
+     * Returns the number of edges in the snapshot
+     *
+     * @return how many edges the snapshot has
+     */
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    /**
+     * Returns the dense id of a vertex.
+     *
+     * @param value the value of the vertex
+     * @return the vertex's id, or -1 if it is not in the snapshot
+     */
+    public int id(T value) {
+        Integer id = ids.get(value);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the value of the vertex with the given id.
+     *
+     * @param id a vertex id in [0, size())
+     * @return the value of the vertex
+     */
+    @SuppressWarnings("unchecked")
+    public T vertex(int id) {
+        return (T) vertices[id];
+    }
+
+    /**
+     * Returns the out-edge offsets, for traversals in this package.
+     *
+     * @return the out-neighbors of v are targets()[offsets()[v]] up to targets()[offsets()[v + 1]]
+     */
+    int[] offsets() {
+        return offsets;
+    }
+
+    /**
+     * Returns the out-edge targets, for traversals in this package.
+     *
+     * @return the out-neighbor ids of every vertex, grouped by vertex
+     */
+    int[] targets() {
+        return targets;
+    }
+
+    /**
+     * Returns the in-edge offsets, for traversals in this package.
+     *
+     * @return the predecessors of v are inTargets()[inOffsets()[v]] up to inTargets()[inOffsets()[v + 1]]
+     */
+    int[] inOffsets() {
+        return inOffsets;
+    }
+
+    /**
+     * Returns the in-edge sources, for traversals in this package.
+     *
+     * @return the predecessor ids of every vertex, grouped by vertex in ascending order
+     */
+    int[] inTargets() {
+        return inTargets;
+    }
+
+    /**
+     * Returns where each in-edge sits in its source's out-edges, for traversals in this
+     * package.
+     *
+     * @return for each entry of inTargets(), the edge's index among its source's out-edges
+     */
+    int[] inRanks() {
+        return inRanks;
+    }
+
+    /**
+     * Depth first search implementation
+     *
+     * @param source the source vertex
+     * @param destination the destination vertex
+     * @return boolean if there is a path from source to target
+     */
+    public boolean depthFirstSearch(T source, T destination) {
+        if (source.equals(destination)) return true;
+        int s = id(source);
+        int d = id(destination);
+        if (s < 0 || d < 0) return false;
+
+        BitSet seen = new BitSet(size());
+        int[] stack = new int[size()];
+        int top = 0;
+        stack[top++] = s;
+        seen.set(s);
+        while (top > 0) {
+            int v = stack[--top];
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                int u = targets[e];
+                if (!seen.get(u)) {
+                    if (u == d)
+                        return true;
+                    seen.set(u);
+                    stack[top++] = u;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Breadth first search implementation
+     *
+     * @param source the source vertex
+     * @param destination the destination vectex
+     * @return a list containing all vertex values from source to destination
+     * @throws IllegalArgumentException if there is no path between source and destination
+     */
+    public List<T> breadthFirstSearch(T source, T destination) {
+        if (source.equals(destination)) {
+            ArrayList<T> result = new ArrayList<>();
+            result.add(source);
+            return result;
+        }
+        int s = id(source);
+        int d = id(destination);
+        if (s < 0 || d < 0) throw new IllegalArgumentException();
+
+        int[] prev = new int[size()];
+        Arrays.fill(prev, -1);
+        prev[s] = s;
+        int[] queue = new int[size()];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = s;
+        while (head < tail) {
+            int v = queue[head++];
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                int u = targets[e];
+                if (prev[u] < 0) {
+                    prev[u] = v;
+                    if (u == d)
+                        return path(s, d, prev);
+                    queue[tail++] = u;
+                }
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    /**
+     * Implementation of topological sort. If the graph has a cycle, the result leaves
+     * out every vertex on or behind it, so it is shorter than size().
+     *
+     * @return the vertices in topological order
+     */
+    public List<T> topoSort() {
+        int n = size();
+        int[] indegree = new int[n];
+        for (int u : targets)
+            indegree[u]++;
+
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int v = 0; v < n; v++)
+            if (indegree[v] == 0)
+                queue[tail++] = v;
+
+        while (head < tail) {
+            int v = queue[head++];
+            for (int e = offsets[v]; e < offsets[v + 1]; e++)
+                if (--indegree[targets[e]] == 0)
+                    queue[tail++] = targets[e];
+        }
+
+        List<T> result = new ArrayList<>(tail);
+        for (int i = 0; i < tail; i++)
+            result.add(vertex(queue[i]));
+        return result;
+    }
+
+    /**
+     * Private helper method for running back down the path
+     * @param source the source vertex id
+     * @param destination the destination vertex id
+     * @param prev the id each reached vertex was first reached from
+     * @return a list containing all vertex values from source to destination
+     */
+    private List<T> path(int source, int destination, int[] prev) {
+        List<T> result = new ArrayList<>();
+        while (destination != source) {
+            result.add(vertex(destination));
+            destination = prev[destination];
+        }
+        result.add(vertex(source));
+        Collections.reverse(result);
+        return result;
+    }
+}
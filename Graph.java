@@ -10,13 +10,15 @@ import java.util.*;
  * @param <T> the type of values stored in the vertices
  */
 public class Graph<T> {
-    private Map<T, List<T>> graph;
+    private Map<T, Set<T>> graph;
+    private Map<T, Set<T>> incoming;
     
     /**
      * Initializes an empty graph.
      */
     public Graph() {
         graph = new HashMap<>();
+        incoming = new HashMap<>();
     }
 
     /**
@@ -36,7 +38,8 @@ public class Graph<T> {
      */
     public boolean addVertex(T value) {
         if (!graph.containsKey(value)) {
-            graph.put(value, new ArrayList<>());
+            graph.put(value, new LinkedHashSet<>());
+            incoming.put(value, new LinkedHashSet<>());
             return true;
         }
         return false;
@@ -53,8 +56,8 @@ public class Graph<T> {
         if (!graph.containsKey(v1) || !graph.containsKey(v2))
             return false;
         
-        if (!graph.get(v1).contains(v2))
-            graph.get(v1).add(v2);
+        if (graph.get(v1).add(v2))
+            incoming.get(v2).add(v1);
         return true;
     }
     
@@ -67,7 +70,8 @@ public class Graph<T> {
      */
     public boolean removeEdge(T v1, T v2) {
         if (graph.containsKey(v1) && graph.containsKey(v2)) {
-            graph.get(v1).remove(v2);
+            if (graph.get(v1).remove(v2))
+                incoming.get(v2).remove(v1);
             return true;
         }
         return false;
@@ -84,60 +88,83 @@ public class Graph<T> {
             return false;
         }
         
-        for (T vertex : graph.keySet()) {
-            graph.get(vertex).remove(value);
+        for (T target : graph.get(value)) {
+            incoming.get(target).remove(value);
+        }
+        for (T origin : incoming.get(value)) {
+            graph.get(origin).remove(value);
         }
         
         graph.remove(value);
+        incoming.remove(value);
         return true;
     }
     
     /**
-     * Returns all neighbors of a vertex.
+     * Returns all neighbors of a vertex. The set is a read-only view that reflects
+     * later changes to the graph.
      *
      * @param value the value of the vertex
-     * @return list of neighbor vertex values, or null if the vertex doesn't exist
+     * @return set of neighbor vertex values, or null if the vertex doesn't exist
      */
-    public List<T> getNeighbors(T value) {
-        if (graph.containsKey(value)) {
-            return new ArrayList<>(graph.get(value));
-        }
-        return null;
+    public Set<T> getNeighbors(T value) {
+        Set<T> neighbors = graph.get(value);
+        return neighbors == null ? null : Collections.unmodifiableSet(neighbors);
+    }
+
+    /**
+     * Returns all vertices with an edge into a vertex. The set is a read-only view
+     * that reflects later changes to the graph.
+     *
+     * @param value the value of the vertex
+     * @return set of predecessor vertex values, or null if the vertex doesn't exist
+     */
+    public Set<T> getPredecessors(T value) {
+        Set<T> predecessors = incoming.get(value);
+        return predecessors == null ? null : Collections.unmodifiableSet(predecessors);
+    }
+
+    /**
+     * Returns the live out-neighbor set of a vertex, for traversals in this package.
+     *
+     * @param value the value of the vertex
+     * @return set of neighbor vertex values, or null if the vertex doesn't exist
+     */
+    Set<T> adjacent(T value) {
+        return graph.get(value);
+    }
+
+    /**
+     * Returns the live set of vertices, for traversals in this package.
+     *
+     * @return set of vertex values
+     */
+    Set<T> vertices() {
+        return graph.keySet();
+    }
+
+    /**
+     * Takes an immutable snapshot of the graph with vertices interned to dense int ids
+     * and edges in compressed sparse row arrays. Later changes to this graph do not
+     * affect the snapshot.
+     *
+     * @return the snapshot
+     */
+    public FrozenGraph<T> freeze() {
+        return new FrozenGraph<>(graph);
     }
 
     /**
-     * Depth first search implementation
+     * Depth first search implementation. Each call uses its own DepthFirstSearch, so
+     * concurrent searches of an unchanging graph do not interfere; callers running many
+     * searches can hold a DepthFirstSearch of their own to reuse its buffers.
      * 
      * @param source the source vertex
      * @param destination the destination vertex
      * @return boolean if there is a path from source to target
      */
     public boolean depthFirstSearch(T source, T destination) {
-        if (source.equals(destination)) return true;
-        if (graph.get(source) == null) return false;
-        List<T> seen = new ArrayList<>();
-        seen.add(source);
-        return dfsRecursive(source, destination, seen);
-    }
-    /**
-     * Private recursive method for depth first search
-     * @param source the source vertex
-     * @param destination the destination vertex
-     * @param seen a list of previously visited vertexes
-     */
-    private boolean dfsRecursive(T source, T destination, List<T> seen) {
-        List<T> neighbors = getNeighbors(source);
-        if (neighbors == null) return false;
-        for (T i: neighbors) {
-            if (!seen.contains(i)) {
-                if (i.equals(destination))
-                    return true;
-                seen.add(i);
-                if (dfsRecursive(i, destination, seen))
-                    return true;
-            }
-        }
-        return false;
+        return new DepthFirstSearch<>(this).reachable(source, destination);
     }
 
     /**
@@ -155,19 +182,19 @@ public class Graph<T> {
             return result;
         }
 
-        Map<T,Integer> dist = new HashMap<>();
+        if (!graph.containsKey(source))
+            throw new IllegalArgumentException();
+
         Map<T, T> prev = new HashMap<>();
-        Queue<T> q = new LinkedList<>();
+        ArrayDeque<T> q = new ArrayDeque<>();
 
-        for (T t: graph.keySet())
-            dist.put(t, -1);
-        dist.put(source, 0);
+        prev.put(source, source);
         q.offer(source);
 
         while (!q.isEmpty()) {
             T t = q.poll();
-            for (T adj: getNeighbors(t)) {
-                if (!prev.keySet().contains(adj)) {
+            for (T adj: graph.get(t)) {
+                if (!prev.containsKey(adj)) {
                     prev.put(adj, t);
                     if (adj.equals(destination))
                         return bfsHelper(source, destination, prev);
@@ -178,6 +205,75 @@ public class Graph<T> {
         throw new IllegalArgumentException();
     }
 
+    /**
+     * Bidirectional breadth first search. Searches forward from the source along
+     * out-edges and backward from the destination along in-edges, one whole level at a
+     * time, always growing whichever frontier is smaller, and stops where they meet.
+     * Because a side's visited set is disjoint from the other's until they meet, the
+     * first meeting vertex found closes a shortest path.
+     *
+     * @param source the source vertex
+     * @param destination the destination vectex
+     * @return a list containing all vertex values from source to destination
+     * @throws IllegalArgumentException if there is no path between source and destination
+     */
+    public List<T> bidirectionalSearch(T source, T destination) {
+        if (source.equals(destination)) {
+            ArrayList<T> result = new ArrayList<>();
+            result.add(source);
+            return result;
+        }
+        if (!graph.containsKey(source) || !graph.containsKey(destination))
+            throw new IllegalArgumentException();
+
+        Map<T, T> prev = new HashMap<>();
+        Map<T, T> next = new HashMap<>();
+        ArrayDeque<T> forward = new ArrayDeque<>();
+        ArrayDeque<T> backward = new ArrayDeque<>();
+        prev.put(source, source);
+        next.put(destination, destination);
+        forward.offer(source);
+        backward.offer(destination);
+
+        while (!forward.isEmpty() && !backward.isEmpty()) {
+            T meet = forward.size() <= backward.size()
+                    ? expandLevel(forward, graph, prev, next)
+                    : expandLevel(backward, incoming, next, prev);
+            if (meet != null) {
+                List<T> result = bfsHelper(source, meet, prev);
+                while (!meet.equals(destination)) {
+                    meet = next.get(meet);
+                    result.add(meet);
+                }
+                return result;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    /**
+     * Private helper method that expands one whole level of a bidirectional search
+     * @param frontier the vertices on the current level, replaced by the next level
+     * @param edges the adjacency to follow in this direction
+     * @param parent the vertex each vertex on this side was first reached from
+     * @param other the parent map of the opposite side
+     * @return a vertex reached by both sides, or null if they have not met yet
+     */
+    private T expandLevel(ArrayDeque<T> frontier, Map<T, Set<T>> edges, Map<T, T> parent, Map<T, T> other) {
+        for (int i = frontier.size(); i > 0; i--) {
+            T t = frontier.poll();
+            for (T adj: edges.get(t)) {
+                if (!parent.containsKey(adj)) {
+                    parent.put(adj, t);
+                    if (other.containsKey(adj))
+                        return adj;
+                    frontier.offer(adj);
+                }
+            }
+        }
+        return null;
+    }
+
     /**
      * Private helper method for running back down the path
      * @param source the source vertex
@@ -206,7 +302,7 @@ public class Graph<T> {
         for (T t: graph.keySet())
             indegree.put(t, 0);
         for (T t: graph.keySet())
-            for (T u: getNeighbors(t))
+            for (T u: graph.get(t))
                 indegree.put(u, indegree.get(u) + 1);
 
         Queue<T> q = new LinkedList<>();
@@ -217,7 +313,7 @@ public class Graph<T> {
         while (!q.isEmpty()) {
             T current = q.poll();
             result.add(current);
-            for (T t: getNeighbors(current)) {
+            for (T t: graph.get(current)) {
                 Integer get = indegree.get(t) - 1;
                 indegree.put(t, get);
                 if (get == 0)
@@ -0,0 +1,372 @@
+package assign07;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Contains tests for the Graph and FrozenGraph classes.
+ *
+ * @author Maxwe// and Ashley Pedersen
+ * @version March 6, 2025
+ */
+public class GraphTests {
+    Graph<Integer> med;
+    Graph<Integer> cyclic;
+
+    @BeforeEach
+    public void setUp() {
+        med = new Graph<>();
+        for (int i = 0; i < 6; i++)
+            med.addVertex(i);
+        med.addEdge(2, 3);
+        med.addEdge(2, 4);
+        med.addEdge(1, 2);
+        med.addEdge(0, 1);
+        med.addEdge(0, 2);
+
+        cyclic = new Graph<>();
+        for (int i = 0; i < 4; i++)
+            cyclic.addVertex(i);
+        cyclic.addEdge(0, 1);
+        cyclic.addEdge(1, 2);
+        cyclic.addEdge(2, 0);
+        cyclic.addEdge(3, 0);
+    }
+
+    private static void assertTopological(Graph<Integer> g, List<Integer> order) {
+        Map<Integer, Integer> position = new HashMap<>();
+        for (int i = 0; i < order.size(); i++)
+            position.put(order.get(i), i);
+        for (int v : position.keySet())
+            for (int u : g.getNeighbors(v))
+                assertTrue(position.get(v) < position.get(u));
+    }
+
+    // --- edge and vertex Tests ---
+    @Test
+    public void addEdgeDuplicateTest() {
+        assertTrue(med.addEdge(0, 1));
+        assertEquals(Set.of(1, 2), med.getNeighbors(0));
+        assertEquals(Set.of(0), med.getPredecessors(1));
+        assertFalse(med.addEdge(0, 42));
+    }
+
+    @Test
+    public void removeEdgeTest() {
+        assertTrue(med.removeEdge(0, 2));
+        assertEquals(Set.of(1), med.getNeighbors(0));
+        assertEquals(Set.of(1), med.getPredecessors(2));
+        assertTrue(med.removeEdge(0, 2));
+        assertFalse(med.removeEdge(0, 42));
+    }
+
+    @Test
+    public void removeVertexTest() {
+        assertTrue(med.removeVertex(2));
+        assertFalse(med.removeVertex(2));
+        assertEquals(5, med.size());
+        assertEquals(Set.of(1), med.getNeighbors(0));
+        assertTrue(med.getNeighbors(1).isEmpty());
+        assertTrue(med.getPredecessors(3).isEmpty());
+        assertNull(med.getNeighbors(2));
+    }
+
+    @Test
+    public void removeVertexSelfLoopTest() {
+        cyclic.addEdge(1, 1);
+        assertTrue(cyclic.removeVertex(1));
+        assertEquals(Set.of(), cyclic.getNeighbors(0));
+        assertEquals(Set.of(2, 3), cyclic.getPredecessors(0));
+    }
+
+    @Test
+    public void getNeighborsViewTest() {
+        Set<Integer> neighbors = med.getNeighbors(4);
+        assertTrue(neighbors.isEmpty());
+        med.addEdge(4, 5);
+        assertEquals(Set.of(5), neighbors);
+        assertThrows(UnsupportedOperationException.class, () -> neighbors.add(0));
+    }
+
+    // --- depthFirstSearch() Tests ---
+    @Test
+    public void depthFirstSearchDeepChainTest() {
+        Graph<Integer> chain = new Graph<>();
+        for (int i = 0; i < 200000; i++)
+            chain.addVertex(i);
+        for (int i = 0; i + 1 < 200000; i++)
+            chain.addEdge(i, i + 1);
+        assertTrue(chain.depthFirstSearch(0, 199999));
+        assertFalse(chain.depthFirstSearch(199999, 0));
+    }
+
+    @Test
+    public void depthFirstSearchOrderTest() {
+        List<Integer> pre = new ArrayList<>();
+        List<Integer> post = new ArrayList<>();
+        boolean stopped = new DepthFirstSearch<>(med).search(0, new DepthFirstSearch.Visitor<Integer>() {
+            public boolean preVisit(Integer vertex) {
+                pre.add(vertex);
+                return true;
+            }
+
+            public void postVisit(Integer vertex) {
+                post.add(vertex);
+            }
+        });
+        assertFalse(stopped);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), pre);
+        assertEquals(Arrays.asList(3, 4, 2, 1, 0), post);
+    }
+
+    @Test
+    public void depthFirstSearchEarlyExitTest() {
+        List<Integer> pre = new ArrayList<>();
+        assertTrue(new DepthFirstSearch<>(med).search(0, vertex -> {
+            pre.add(vertex);
+            return vertex != 2;
+        }));
+        assertEquals(Arrays.asList(0, 1, 2), pre);
+    }
+
+    @Test
+    public void depthFirstSearchReuseTest() {
+        DepthFirstSearch<Integer> dfs = new DepthFirstSearch<>(cyclic);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(dfs.reachable(3, 2));
+            assertFalse(dfs.reachable(0, 3));
+        }
+        List<Integer> post = new ArrayList<>();
+        assertFalse(dfs.searchAll(new DepthFirstSearch.Visitor<Integer>() {
+            public boolean preVisit(Integer vertex) {
+                return true;
+            }
+
+            public void postVisit(Integer vertex) {
+                post.add(vertex);
+            }
+        }));
+        assertEquals(4, post.size());
+    }
+
+    @Test
+    public void depthFirstSearchInvalidSourceExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> new DepthFirstSearch<>(med).search(42, vertex -> true));
+        assertFalse(med.depthFirstSearch(42, 0));
+    }
+
+    // --- bidirectionalSearch() Tests ---
+    @Test
+    public void bidirectionalSearchTest() {
+        assertEquals(Arrays.asList(0, 2, 3), med.bidirectionalSearch(0, 3));
+        assertEquals(Arrays.asList(0, 2), med.bidirectionalSearch(0, 2));
+        assertEquals(Arrays.asList(1), med.bidirectionalSearch(1, 1));
+        assertEquals(Arrays.asList(3, 0, 1, 2), cyclic.bidirectionalSearch(3, 2));
+    }
+
+    @Test
+    public void bidirectionalSearchMatchesBreadthFirstTest() {
+        Graph<Integer> ring = new Graph<>();
+        for (int i = 0; i < 100; i++)
+            ring.addVertex(i);
+        for (int i = 0; i < 100; i++) {
+            ring.addEdge(i, (i + 1) % 100);
+            ring.addEdge(i, (i * 7) % 100);
+        }
+        for (int i = 0; i < 100; i += 9)
+            for (int j = 0; j < 100; j += 11)
+                assertEquals(ring.breadthFirstSearch(i, j).size(), ring.bidirectionalSearch(i, j).size());
+    }
+
+    @Test
+    public void bidirectionalSearchNoPathExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> med.bidirectionalSearch(3, 0));
+        assertThrows(IllegalArgumentException.class, () -> med.bidirectionalSearch(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> med.bidirectionalSearch(42, 0));
+    }
+
+    // --- freeze() Tests ---
+    @Test
+    public void freezeSizeTest() {
+        FrozenGraph<Integer> frozen = med.freeze();
+        assertEquals(6, frozen.size());
+        assertEquals(5, frozen.edgeCount());
+        for (int i = 0; i < 6; i++)
+            assertEquals(i, (int) frozen.vertex(frozen.id(i)));
+        assertEquals(-1, frozen.id(42));
+    }
+
+    @Test
+    public void freezeIsSnapshotTest() {
+        FrozenGraph<Integer> frozen = med.freeze();
+        med.addEdge(4, 5);
+        assertFalse(frozen.depthFirstSearch(0, 5));
+        assertTrue(med.freeze().depthFirstSearch(0, 5));
+    }
+
+    @Test
+    public void frozenDepthFirstSearchTest() {
+        FrozenGraph<Integer> frozen = med.freeze();
+        assertTrue(frozen.depthFirstSearch(0, 4));
+        assertTrue(frozen.depthFirstSearch(3, 3));
+        assertFalse(frozen.depthFirstSearch(4, 0));
+        assertFalse(frozen.depthFirstSearch(0, 5));
+        assertFalse(frozen.depthFirstSearch(0, 42));
+        assertTrue(cyclic.freeze().depthFirstSearch(2, 1));
+    }
+
+    @Test
+    public void frozenBreadthFirstSearchTest() {
+        FrozenGraph<Integer> frozen = med.freeze();
+        assertEquals(Arrays.asList(0, 2, 3), frozen.breadthFirstSearch(0, 3));
+        assertEquals(Arrays.asList(1), frozen.breadthFirstSearch(1, 1));
+        assertEquals(Arrays.asList(3, 0, 1, 2), cyclic.freeze().breadthFirstSearch(3, 2));
+    }
+
+    @Test
+    public void frozenBreadthFirstSearchNoPathExceptionTest() {
+        FrozenGraph<Integer> frozen = med.freeze();
+        assertThrows(IllegalArgumentException.class, () -> frozen.breadthFirstSearch(3, 0));
+        assertThrows(IllegalArgumentException.class, () -> frozen.breadthFirstSearch(42, 0));
+    }
+
+    @Test
+    public void frozenTopoSortTest() {
+        List<Integer> order = med.freeze().topoSort();
+        assertEquals(6, order.size());
+        assertTopological(med, order);
+    }
+
+    @Test
+    public void frozenTopoSortCycleTest() {
+        assertTrue(cyclic.freeze().topoSort().size() < cyclic.size());
+    }
+
+    // --- ParallelBreadthFirstSearch Tests ---
+    @Test
+    public void parallelBreadthFirstSearchTest() {
+        ParallelBreadthFirstSearch<Integer> bfs = new ParallelBreadthFirstSearch<>(med.freeze());
+        assertEquals(Arrays.asList(0, 2, 3), bfs.breadthFirstSearch(0, 3));
+        assertEquals(Arrays.asList(1), bfs.breadthFirstSearch(1, 1));
+        assertEquals(Arrays.asList(3, 0, 1, 2),
+                new ParallelBreadthFirstSearch<>(cyclic.freeze()).breadthFirstSearch(3, 2));
+    }
+
+    @Test
+    public void parallelBreadthFirstSearchNoPathExceptionTest() {
+        ParallelBreadthFirstSearch<Integer> bfs = new ParallelBreadthFirstSearch<>(med.freeze());
+        assertThrows(IllegalArgumentException.class, () -> bfs.breadthFirstSearch(3, 0));
+        assertThrows(IllegalArgumentException.class, () -> bfs.breadthFirstSearch(42, 0));
+        assertThrows(IllegalArgumentException.class, () -> bfs.parents(42));
+    }
+
+    @Test
+    public void parallelBreadthFirstSearchQueueOrderTest() {
+        Graph<Integer> diamond = new Graph<>();
+        diamond.addVertex(0);
+        diamond.addVertex(5);
+        diamond.addVertex(3);
+        diamond.addVertex(9);
+        diamond.addEdge(0, 5);
+        diamond.addEdge(0, 3);
+        diamond.addEdge(5, 9);
+        diamond.addEdge(3, 9);
+        assertEquals(Arrays.asList(0, 5, 9), diamond.breadthFirstSearch(0, 9));
+        assertEquals(Arrays.asList(0, 5, 9),
+                new ParallelBreadthFirstSearch<>(diamond.freeze()).breadthFirstSearch(0, 9));
+    }
+
+    @Test
+    public void parallelBreadthFirstSearchMatchesPathsTest() {
+        for (int degree = 3; degree <= 24; degree *= 2) {
+            Graph<Integer> g = new Graph<>();
+            int n = 3000;
+            for (int i = 0; i < n; i++)
+                g.addVertex((int) ((i * 7919L) % n));
+            for (int i = 0; i < n; i++)
+                for (int k = 1; k <= degree; k++)
+                    g.addEdge(i, (int) ((i * 104729L + k * 31L * k) % n));
+            ParallelBreadthFirstSearch<Integer> bfs = new ParallelBreadthFirstSearch<>(g.freeze(), new ForkJoinPool(4));
+            for (int i = 0; i < n; i += 97) {
+                for (int j = 5; j < n; j += 89) {
+                    List<Integer> expected;
+                    try {
+                        expected = g.breadthFirstSearch(i, j);
+                    } catch (IllegalArgumentException e) {
+                        int src = i, dst = j;
+                        assertThrows(IllegalArgumentException.class, () -> bfs.breadthFirstSearch(src, dst));
+                        continue;
+                    }
+                    assertEquals(expected, bfs.breadthFirstSearch(i, j));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void parallelBreadthFirstSearchParentsTest() {
+        Graph<Integer> g = new Graph<>();
+        int n = 20000;
+        for (int i = 0; i < n; i++)
+            g.addVertex(i);
+        for (int i = 0; i < n; i++) {
+            g.addEdge(i, (i + 1) % n);
+            g.addEdge(i, (int) ((i * 7919L) % n));
+            g.addEdge(i, (int) ((i * 104729L + 13) % n));
+        }
+        FrozenGraph<Integer> frozen = g.freeze();
+        int[] parents = new ParallelBreadthFirstSearch<>(frozen, new ForkJoinPool(4)).parents(0);
+        assertArrayEquals(parents, new ParallelBreadthFirstSearch<>(frozen, new ForkJoinPool(1)).parents(0));
+        for (int v = 0; v < n; v += 97) {
+            List<Integer> path = g.breadthFirstSearch(0, frozen.vertex(v));
+            int hops = 0;
+            for (int u = v; parents[u] != u; u = parents[u])
+                hops++;
+            assertEquals(path.size() - 1, hops);
+        }
+    }
+
+    // --- ParallelTopologicalSort Tests ---
+    @Test
+    public void parallelTopologicalSortLevelsTest() {
+        List<List<Integer>> levels = new ParallelTopologicalSort<>(med.freeze()).levels();
+        assertEquals(Arrays.asList(Arrays.asList(0, 5), Arrays.asList(1), Arrays.asList(2), Arrays.asList(3, 4)),
+                levels);
+    }
+
+    @Test
+    public void parallelTopologicalSortTest() {
+        Graph<Integer> g = new Graph<>();
+        int n = 20000;
+        for (int i = 0; i < n; i++)
+            g.addVertex(i);
+        for (int i = 0; i < n; i++) {
+            int j = (int) (i + 1 + (i * 7919L) % 50);
+            if (j < n)
+                g.addEdge(i, j);
+            if (i + 3 < n)
+                g.addEdge(i, i + 3);
+        }
+        FrozenGraph<Integer> frozen = g.freeze();
+        List<Integer> order = new ParallelTopologicalSort<>(frozen, new ForkJoinPool(4)).sort();
+        assertEquals(order, new ParallelTopologicalSort<>(frozen, new ForkJoinPool(1)).sort());
+        assertEquals(n, order.size());
+        assertTopological(g, order);
+    }
+
+    @Test
+    public void parallelTopologicalSortCycleTest() {
+        List<Integer> order = new ParallelTopologicalSort<>(cyclic.freeze()).sort();
+        assertEquals(Arrays.asList(3), order);
+    }
+}
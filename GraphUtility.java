@@ -38,7 +38,7 @@ public class GraphUtility {
 
     /**
      * Finds the shortest path between two vertices in the directed graph described by sources and destinations.
-     * Uses breadth-first search to find the shortest path between the source and destination vertices.
+     * Uses a bidirectional breadth-first search, meeting in the middle, to find the shortest path between the source and destination vertices.
      *
      * @param <T> the type of data stored in the graph vertices
      * @param sources a list of source vertices for the graph edges
@@ -62,7 +62,7 @@ public class GraphUtility {
             g.addEdge(sources.get(i), destinations.get(i));
         }
 
-        return g.breadthFirstSearch(srcData, dstData);
+        return g.bidirectionalSearch(srcData, dstData);
     }
 
     /**
@@ -90,4 +90,33 @@ public class GraphUtility {
         if (topo.size() != g.size()) throw new IllegalArgumentException("Cyclic graph passed to sort");
         return topo;
     }
+
+    /**
+     * Sorts the directed graph described by sources and destinations into wavefronts. Every vertex in a wavefront
+     * depends only on vertices in earlier wavefronts, so the vertices of one wavefront can be scheduled in parallel.
+     * The wavefronts are computed in parallel over a frozen snapshot of the graph.
+     *
+     * @param <T> the type of data stored in the graph vertices
+     * @param sources a list of source vertices for the graph edges
+     * @param destinations a list of destination vertices for the graph edges
+     * @return a list of the wavefronts in topological order
+     * @throws IllegalArgumentException if the graph contains a cycle (topological sort is only possible for acyclic graphs)
+     */
+    public static <T> List<List<T>> sortLevels(List<T> sources, List<T> destinations) {
+        if (sources.size() != destinations.size()) throw new IllegalArgumentException();
+
+        Graph<T> g = new Graph<>();
+        for (int i = 0; i < sources.size(); i++) {
+            g.addVertex(sources.get(i));
+            g.addVertex(destinations.get(i));
+            g.addEdge(sources.get(i), destinations.get(i));
+        }
+
+        List<List<T>> levels = new ParallelTopologicalSort<>(g.freeze()).levels();
+        int sorted = 0;
+        for (List<T> level : levels)
+            sorted += level.size();
+        if (sorted != g.size()) throw new IllegalArgumentException("Cyclic graph passed to sort");
+        return levels;
+    }
 }
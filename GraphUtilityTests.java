@@ -165,4 +165,22 @@ public class GraphUtilityTests {
     public void sortMismatchedSourcesExceptionTest() {
         assertThrows(IllegalArgumentException.class, () -> sort(smallSources, medDest));
     }
+
+    // --- sortLevels() Tests ---
+    @Test
+    public void sortLevelsMedTest() {
+        List<List<Integer>> expected = Arrays.asList(Arrays.asList(0), Arrays.asList(1), Arrays.asList(2), Arrays.asList(3, 4));
+
+        assertEquals(expected, sortLevels(medSources, medDest));
+    }
+
+    @Test
+    public void sortLevelsCycleExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> sortLevels(cyclicSources, cyclicDest));
+    }
+
+    @Test
+    public void sortLevelsMismatchedSourcesExceptionTest() {
+        assertThrows(IllegalArgumentException.class, () -> sortLevels(smallSources, medDest));
+    }
 }
@@ -0,0 +1,130 @@
+package assign10;
+
+/**
+ * HeapMetrics implementation that keeps running totals. Attach one to a heap with
+ * setMetrics, read the totals whenever needed, and reset between measurement
+ * windows. Not thread-safe; use one per heap.
+ * 
+ * @author Maxwell and Cooper
+ * @version April 6, 2025
+ */
+public class HeapCounters implements HeapMetrics {
+	/**
+	 * Bytes per copied array slot, assuming compressed references.
+	 */
+	public static final int REFERENCE_BYTES = 4;
+
+	private long comparisons;
+	private long adds;
+	private long addSwaps;
+	private long extracts;
+	private long extractSwaps;
+	private long resizes;
+	private long itemsCopied;
+	private int highWaterSize;
+
+	public void compared() {
+		comparisons++;
+	}
+
+	public void added(int swaps, int size) {
+		adds++;
+		addSwaps += swaps;
+		if (size > highWaterSize)
+			highWaterSize = size;
+	}
+
+	public void extracted(int swaps, int size) {
+		extracts++;
+		extractSwaps += swaps;
+	}
+
+	public void rebuilt(int size) {
+		if (size > highWaterSize)
+			highWaterSize = size;
+	}
+
+	public void resized(int oldCapacity, int newCapacity, int itemsCopied) {
+		resizes++;
+		this.itemsCopied += itemsCopied;
+	}
+
+	/**
+	 * Returns the number of comparator calls.
+	 */
+	public long comparisons() {
+		return comparisons;
+	}
+
+	/**
+	 * Returns the number of adds.
+	 */
+	public long adds() {
+		return adds;
+	}
+
+	/**
+	 * Returns the average number of swaps per add, or 0 if there were none.
+	 */
+	public double swapsPerAdd() {
+		return adds == 0 ? 0 : (double) addSwaps / adds;
+	}
+
+	/**
+	 * Returns the number of extractMax and replaceMax calls.
+	 */
+	public long extracts() {
+		return extracts;
+	}
+
+	/**
+	 * Returns the average number of swaps per extract, or 0 if there were none.
+	 */
+	public double swapsPerExtract() {
+		return extracts == 0 ? 0 : (double) extractSwaps / extracts;
+	}
+
+	/**
+	 * Returns the number of times the backing array was reallocated.
+	 */
+	public long resizes() {
+		return resizes;
+	}
+
+	/**
+	 * Returns the estimated number of bytes copied by reallocations, counting
+	 * REFERENCE_BYTES per item.
+	 */
+	public long bytesCopied() {
+		return itemsCopied * REFERENCE_BYTES;
+	}
+
+	/**
+	 * Returns the largest size the heap reached.
+	 */
+	public int highWaterSize() {
+		return highWaterSize;
+	}
+
+	/**
+	 * Sets every total back to zero.
+	 */
+	public void reset() {
+		comparisons = 0;
+		adds = 0;
+		addSwaps = 0;
+		extracts = 0;
+		extractSwaps = 0;
+		resizes = 0;
+		itemsCopied = 0;
+		highWaterSize = 0;
+	}
+
+	/**
+	 * Returns a one-line summary of the totals.
+	 */
+	public String toString() {
+		return String.format("comparisons=%d adds=%d swaps/add=%.2f extracts=%d swaps/extract=%.2f resizes=%d bytesCopied=%d highWater=%d",
+				comparisons, adds, swapsPerAdd(), extracts, swapsPerExtract(), resizes, bytesCopied(), highWaterSize);
+	}
+}
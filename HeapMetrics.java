@@ -0,0 +1,60 @@
+package assign10;
+
+/**
+ * Listener for what a heap does on its hot paths. Every method has an empty default,
+ * so an implementation only overrides what it needs. NONE overrides nothing; a heap
+ * reporting to it compiles down to the uninstrumented code once the JIT inlines the
+ * empty calls.
+ * 
+ * @author Maxwell and Cooper
+ * @version April 6, 2025
+ */
+public interface HeapMetrics {
+	/**
+	 * The listener that ignores everything. The default for every heap.
+	 */
+	public static final HeapMetrics NONE = new HeapMetrics() {
+	};
+
+	/**
+	 * Called once per comparator call.
+	 */
+	public default void compared() {
+	}
+
+	/**
+	 * Called after each add.
+	 * 
+	 * @param swaps how many levels the new item moved up
+	 * @param size the size of the heap afterwards
+	 */
+	public default void added(int swaps, int size) {
+	}
+
+	/**
+	 * Called after each extractMax or replaceMax.
+	 * 
+	 * @param swaps how many levels the replacement root moved down
+	 * @param size the size of the heap afterwards
+	 */
+	public default void extracted(int swaps, int size) {
+	}
+
+	/**
+	 * Called after a bottom-up rebuild of the whole heap.
+	 * 
+	 * @param size the size of the heap afterwards
+	 */
+	public default void rebuilt(int size) {
+	}
+
+	/**
+	 * Called after the backing array is reallocated, growing or shrinking.
+	 * 
+	 * @param oldCapacity the capacity before
+	 * @param newCapacity the capacity after
+	 * @param itemsCopied how many items were copied into the new array
+	 */
+	public default void resized(int oldCapacity, int newCapacity, int itemsCopied) {
+	}
+}
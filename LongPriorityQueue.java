@@ -0,0 +1,67 @@
+package assign10;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Primitive long variant of the priority queue abstract data type.
+ * Items are stored unboxed, so none of the operations allocate.
+ * 
+ * NOTE: The item with the highest priority is the "maximum" item.
+ * 
+ * @author Maxwell and Cooper
+ * @version April 6, 2025
+ */
+public interface LongPriorityQueue {
+
+	/**
+	 * Adds the given item to this priority queue.
+	 * O(1) in the average case, O(log N) in the worst case
+	 * 
+	 * @param item
+	 */
+	public void add(long item);
+
+	/**
+	 * Returns, but does not remove, the maximum item this priority queue.
+	 * O(1)
+	 * 
+	 * @return the maximum item
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public long peek() throws NoSuchElementException;
+
+	/**
+	 * Returns and removes the maximum item this priority queue.
+	 * O(log N)
+	 * 
+	 * @return the maximum item
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public long extractMax() throws NoSuchElementException;
+
+	/**
+	 * Returns the number of items in this priority queue.
+	 * O(1)
+	 */
+	public int size();
+
+	/**
+	 * Returns true if this priority queue is empty, false otherwise.
+	 * O(1)
+	 */
+	public boolean isEmpty();
+
+	/**
+	 * Empties this priority queue of items.
+	 * O(1)
+	 */
+	public void clear();
+
+	/**
+	 * Creates and returns an array of the items in this priority queue,
+	 * in the same order they appear in the backing array. The root item
+	 * is stored at index 0 in the returned array.
+	 * O(N)
+	 */
+	public long[] toArray();
+}
@@ -0,0 +1,194 @@
+package assign10;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Max Pairing Heap implementing the Priority Queue interface.
+ * 
+ * Each node keeps a pointer to its first child and its next sibling. add and meld
+ * are a single root comparison that hangs the smaller tree under the larger one,
+ * so two heaps combine in O(1) no matter how large they are. extractMax pays for
+ * this with a two-pass pairing of the root's children, amortized O(log N).
+ * @author Maxwell and Cooper
+ * @version April 6, 2025
+ */
+public class PairingHeap<E> implements PriorityQueue<E> {
+	private Comparator<? super E> cmp;
+	private Node<E> root;
+	private int size;
+
+	private static class Node<E> {
+		private E item;
+		private Node<E> child;
+		private Node<E> sibling;
+
+		private Node(E item) {
+			this.item = item;
+		}
+	}
+
+	/**
+	 * Constructor which takes a custom comparator
+	 * @param cmp Custom Comparator
+	 */
+	public PairingHeap(Comparator<? super E> cmp) {
+		this.cmp = cmp;
+		root = null;
+		size = 0;
+	}
+
+	/**
+	 * Basic constructor
+	 */
+	@SuppressWarnings("unchecked")
+	public PairingHeap() {
+		this((Comparator<? super E>) Comparator.naturalOrder());
+	}
+
+	/**
+	 * Adds the given item to this priority queue. O(1)
+	 * 
+	 * @param item
+	 */
+	public void add(E item) {
+		root = link(root, new Node<>(item));
+		size++;
+	}
+
+	/**
+	 * Moves every item of other into this heap and leaves other empty. Both heaps
+	 * should order their items the same way. O(1)
+	 * 
+	 * @param other the heap to absorb
+	 * @throws IllegalArgumentException if other is this heap
+	 */
+	public void meld(PairingHeap<E> other) {
+		if (other == this)
+			throw new IllegalArgumentException("Cannot meld a heap with itself");
+		root = link(root, other.root);
+		size += other.size;
+		other.root = null;
+		other.size = 0;
+	}
+
+	/**
+	 * Returns, but does not remove, the maximum item this priority queue. O(1)
+	 * 
+	 * @return the maximum item
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public E peek() throws NoSuchElementException {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return root.item;
+	}
+
+	/**
+	 * Returns and removes the maximum item this priority queue. Amortized O(log N)
+	 * 
+	 * @return the maximum item
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public E extractMax() throws NoSuchElementException {
+		if (size == 0)
+			throw new NoSuchElementException();
+		E r = root.item;
+		root = combineSiblings(root.child);
+		size--;
+		return r;
+	}
+
+	/**
+	 * Returns the number of items in this priority queue. O(1)
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if this priority queue is empty, false otherwise. O(1)
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Empties this priority queue of items. O(1)
+	 */
+	public void clear() {
+		root = null;
+		size = 0;
+	}
+
+	/**
+	 * Creates and returns an array of the items in this priority queue, with the
+	 * root item at index 0 and the rest in depth-first order. O(N)
+	 */
+	public Object[] toArray() {
+		Object[] array = new Object[size];
+		ArrayDeque<Node<E>> stack = new ArrayDeque<>();
+		if (root != null)
+			stack.push(root);
+		int i = 0;
+		while (!stack.isEmpty()) {
+			Node<E> node = stack.pop();
+			array[i++] = node.item;
+			if (node.sibling != null)
+				stack.push(node.sibling);
+			if (node.child != null)
+				stack.push(node.child);
+		}
+		return array;
+	}
+
+	/**
+	 * Hangs the root with the smaller item under the other as its first child.
+	 * @param a A root with no siblings, or null
+	 * @param b A root with no siblings, or null
+	 * @return The root of the combined tree
+	 */
+	private Node<E> link(Node<E> a, Node<E> b) {
+		if (a == null)
+			return b;
+		if (b == null)
+			return a;
+		if (cmp.compare(a.item, b.item) < 0) {
+			Node<E> hold = a;
+			a = b;
+			b = hold;
+		}
+		b.sibling = a.child;
+		a.child = b;
+		return a;
+	}
+
+	/**
+	 * Standard two-pass pairing: link siblings in pairs from left to right, then
+	 * link the results from right to left. Done with a list instead of recursion so
+	 * long sibling chains cannot overflow the stack.
+	 * @param first The first of a chain of siblings, or null
+	 * @return The root of the combined tree
+	 */
+	private Node<E> combineSiblings(Node<E> first) {
+		if (first == null)
+			return null;
+		List<Node<E>> pairs = new ArrayList<>();
+		while (first != null) {
+			Node<E> a = first;
+			Node<E> b = a.sibling;
+			first = b == null ? null : b.sibling;
+			a.sibling = null;
+			if (b != null)
+				b.sibling = null;
+			pairs.add(link(a, b));
+		}
+		Node<E> result = pairs.get(pairs.size() - 1);
+		for (int i = pairs.size() - 2; i >= 0; i--)
+			result = link(pairs.get(i), result);
+		return result;
+	}
+}
@@ -0,0 +1,83 @@
+package assign10;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PairingHeapTest {
+	private PairingHeap<Integer> empty;
+	private PairingHeap<Integer> populated;
+
+	@BeforeEach
+	void setUp() {
+		empty = new PairingHeap<Integer>();
+		populated = new PairingHeap<Integer>();
+		for (int i = 2; i <= 40; i += 2)
+			populated.add(i);
+	}
+
+	@Test
+	void testEmpty() {
+		assertTrue(empty.isEmpty());
+		assertThrows(NoSuchElementException.class, () -> empty.peek());
+		assertThrows(NoSuchElementException.class, () -> empty.extractMax());
+	}
+
+	@Test
+	void testExtractPopulated() {
+		for (int i = 40; i > 0; i -= 2)
+			assertEquals(i, populated.extractMax());
+		assertTrue(populated.isEmpty());
+	}
+
+	@Test
+	void testMatchesBinaryMaxHeap() {
+		Random rng = new Random(11);
+		BinaryMaxHeap<Integer> expected = new BinaryMaxHeap<>();
+		for (int i = 0; i < 3000; i++) {
+			if (expected.isEmpty() || rng.nextInt(3) > 0) {
+				int value = rng.nextInt(100);
+				expected.add(value);
+				empty.add(value);
+			} else {
+				assertEquals(expected.extractMax(), empty.extractMax());
+			}
+		}
+		assertEquals(expected.size(), empty.size());
+		while (!expected.isEmpty())
+			assertEquals(expected.extractMax(), empty.extractMax());
+	}
+
+	@Test
+	void testMeld() {
+		PairingHeap<Integer> odds = new PairingHeap<>();
+		for (int i = 1; i < 40; i += 2)
+			odds.add(i);
+		populated.meld(odds);
+		assertTrue(odds.isEmpty());
+		assertEquals(40, populated.size());
+		for (int i = 40; i > 0; i--)
+			assertEquals(i, populated.extractMax());
+	}
+
+	@Test
+	void testMeldEmptyAndSelf() {
+		populated.meld(empty);
+		assertEquals(20, populated.size());
+		empty.meld(populated);
+		assertEquals(20, empty.size());
+		assertTrue(populated.isEmpty());
+		assertThrows(IllegalArgumentException.class, () -> empty.meld(empty));
+	}
+
+	@Test
+	void testToArrayRootFirst() {
+		Object[] array = populated.toArray();
+		assertEquals(20, array.length);
+		assertEquals(40, array[0]);
+	}
+}
@@ -0,0 +1,264 @@
+package assign07;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A level-synchronous, direction-optimizing breadth first search over a FrozenGraph.
+ * Each level is expanded across a ForkJoinPool in one of two ways. A top-down step has
+ * the frontier push along its out-edges, claiming each newly reached vertex with an
+ * atomic min. A bottom-up step has every unvisited vertex scan its in-edges for its
+ * best frontier parent, which is much cheaper once the frontier covers a large share
+ * of the edges. Following Beamer et al., the search goes bottom-up when the frontier's
+ * out-edges exceed 1/ALPHA of the unvisited vertices' in-edges, and back to top-down
+ * when the frontier drops below 1/BETA of the vertices.
+ *
+ * The parents match Graph.breadthFirstSearch exactly. There a vertex's parent is the
+ * first vertex in queue order to reach it, and each level is queued in order of
+ * (parent's place in the queue, edge's place in the parent's neighbors). Here both
+ * steps claim a vertex with that same pair as its key, taking the smallest, and the
+ * next frontier is sorted by it, so it is laid out in queue order too. The results
+ * are the same however the work is split and whichever steps are taken.
+ *
+ * @author Maxwe// and Ashley Pedersen
+ * @version March 3, 2025
+ * @param <T> the type of values stored in the vertices
+ */
+public class ParallelBreadthFirstSearch<T> {
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+    private static final int GRAIN = 2048;
+
+    private final FrozenGraph<T> graph;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a search over the given snapshot that runs in the common pool.
+     *
+     * @param graph the snapshot to search
+     */
+    public ParallelBreadthFirstSearch(FrozenGraph<T> graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a search over the given snapshot that runs in the given pool.
+     *
+     * @param graph the snapshot to search
+     * @param pool the pool to expand levels in
+     */
+    public ParallelBreadthFirstSearch(FrozenGraph<T> graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+    }
+
+    /**
+     * Builds the breadth first tree of everything reachable from source.
+     *
+     * @param source the source vertex
+     * @return the parent id of each vertex, indexed by id; the source is its own parent
+     *         and unreached vertices have -1
+     * @throws IllegalArgumentException if source is not in the graph
+     */
+    public int[] parents(T source) {
+        int s = graph.id(source);
+        if (s < 0) throw new IllegalArgumentException();
+        return new Search(s, -1).run();
+    }
+
+    /**
+     * Breadth first search implementation. Returns the same path as
+     * Graph.breadthFirstSearch on the graph the snapshot was taken from.
+     *
+     * @param source the source vertex
+     * @param destination the destination vectex
+     * @return a list containing all vertex values from source to destination
+     * @throws IllegalArgumentException if there is no path between source and destination
+     */
+    public List<T> breadthFirstSearch(T source, T destination) {
+        if (source.equals(destination)) {
+            ArrayList<T> result = new ArrayList<>();
+            result.add(source);
+            return result;
+        }
+        int s = graph.id(source);
+        int d = graph.id(destination);
+        if (s < 0 || d < 0) throw new IllegalArgumentException();
+
+        int[] parent = new Search(s, d).run();
+        if (parent[d] < 0) throw new IllegalArgumentException();
+        List<T> result = new ArrayList<>();
+        for (int v = d; v != s; v = parent[v])
+            result.add(graph.vertex(v));
+        result.add(source);
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * The state of one search. A vertex's claim key packs its parent's position in the
+     * frontier into the high 32 bits and the edge's index among the parent's
+     * out-edges into the low 32 bits; claim holds Long.MAX_VALUE minus the smallest
+     * key seen, so 0 means unclaimed without filling the array first.
+     */
+    private class Search {
+        private final int source;
+        private final int destination;
+        private final int[] offsets = graph.offsets();
+        private final int[] targets = graph.targets();
+        private final int[] inOffsets = graph.inOffsets();
+        private final int[] inTargets = graph.inTargets();
+        private final int[] inRanks = graph.inRanks();
+        private final int[] parent;
+        private final int[] level;
+        private final int[] position;
+        private final AtomicLongArray claim;
+        private int[] frontier;
+        private int[] next;
+        private int depth;
+
+        Search(int source, int destination) {
+            int n = graph.size();
+            this.source = source;
+            this.destination = destination;
+            parent = new int[n];
+            level = new int[n];
+            Arrays.fill(parent, -1);
+            Arrays.fill(level, -1);
+            position = new int[n];
+            claim = new AtomicLongArray(n);
+            frontier = new int[n];
+            next = new int[n];
+        }
+
+        /**
+         * Runs the level-synchronous search.
+         * @return the parent of each vertex, or -1 if it was not reached
+         */
+        int[] run() {
+            int n = graph.size();
+            parent[source] = source;
+            level[source] = 0;
+            frontier[0] = source;
+            int size = 1;
+            long unexploredEdges = graph.edgeCount() - (inOffsets[source + 1] - inOffsets[source]);
+            boolean bottomUp = false;
+
+            for (depth = 0; size > 0 && (destination < 0 || parent[destination] < 0); depth++) {
+                long frontierEdges = 0;
+                for (int i = 0; i < size; i++)
+                    frontierEdges += offsets[frontier[i] + 1] - offsets[frontier[i]];
+                if (!bottomUp && frontierEdges > unexploredEdges / ALPHA)
+                    bottomUp = true;
+                else if (bottomUp && size < n / BETA)
+                    bottomUp = false;
+
+                AtomicInteger tail = new AtomicInteger();
+                if (bottomUp)
+                    pool.invoke(new BottomUp(0, n, tail));
+                else
+                    pool.invoke(new TopDown(0, size, tail));
+
+                // Put the next level in queue order and record each vertex's parent
+                size = tail.get();
+                long[] keys = new long[size];
+                for (int i = 0; i < size; i++)
+                    keys[i] = Long.MAX_VALUE - claim.get(next[i]);
+                Arrays.sort(keys);
+                for (int i = 0; i < size; i++) {
+                    int p = frontier[(int) (keys[i] >>> 32)];
+                    int v = targets[offsets[p] + (int) keys[i]];
+                    next[i] = v;
+                    parent[v] = p;
+                    level[v] = depth + 1;
+                    position[v] = i;
+                    unexploredEdges -= inOffsets[v + 1] - inOffsets[v];
+                }
+                int[] swap = frontier;
+                frontier = next;
+                next = swap;
+            }
+            return parent;
+        }
+
+        /**
+         * Pushes a slice of the frontier along its out-edges.
+         */
+        private class TopDown extends RecursiveAction {
+            private final int lo;
+            private final int hi;
+            private final AtomicInteger tail;
+
+            TopDown(int lo, int hi, AtomicInteger tail) {
+                this.lo = lo;
+                this.hi = hi;
+                this.tail = tail;
+            }
+
+            @Override
+            protected void compute() {
+                if (hi - lo > GRAIN) {
+                    int mid = (lo + hi) >>> 1;
+                    invokeAll(new TopDown(lo, mid, tail), new TopDown(mid, hi, tail));
+                    return;
+                }
+                FrontierBuffer found = new FrontierBuffer();
+                for (int i = lo; i < hi; i++) {
+                    int v = frontier[i];
+                    for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                        int u = targets[e];
+                        long key = (long) i << 32 | (e - offsets[v]);
+                        if (level[u] < 0 && claim.getAndAccumulate(u, Long.MAX_VALUE - key, Math::max) == 0)
+                            found.add(u);
+                    }
+                }
+                found.publish(next, tail);
+            }
+        }
+
+        /**
+         * Has a range of unvisited vertices find their best parent on the current level.
+         * Every in-edge is checked, since the parent is the earliest in the frontier,
+         * not the first one found.
+         */
+        private class BottomUp extends RecursiveAction {
+            private final int lo;
+            private final int hi;
+            private final AtomicInteger tail;
+
+            BottomUp(int lo, int hi, AtomicInteger tail) {
+                this.lo = lo;
+                this.hi = hi;
+                this.tail = tail;
+            }
+
+            @Override
+            protected void compute() {
+                if (hi - lo > GRAIN) {
+                    int mid = (lo + hi) >>> 1;
+                    invokeAll(new BottomUp(lo, mid, tail), new BottomUp(mid, hi, tail));
+                    return;
+                }
+                FrontierBuffer found = new FrontierBuffer();
+                for (int u = lo; u < hi; u++) {
+                    if (level[u] >= 0)
+                        continue;
+                    long best = Long.MAX_VALUE;
+                    for (int e = inOffsets[u]; e < inOffsets[u + 1]; e++) {
+                        int v = inTargets[e];
+                        if (level[v] == depth)
+                            best = Math.min(best, (long) position[v] << 32 | inRanks[e]);
+                    }
+                    if (best != Long.MAX_VALUE) {
+                        claim.set(u, Long.MAX_VALUE - best);
+                        found.add(u);
+                    }
+                }
+                found.publish(next, tail);
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package assign07;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A parallel version of Kahn's topological sort over a FrozenGraph. The vertices come
+ * out in wavefronts: the first is every vertex with no in-edges, and each later one is
+ * every vertex whose last predecessor was in the wavefront before it. A wavefront is
+ * processed across a ForkJoinPool, with each vertex decrementing its neighbors' counts
+ * in an AtomicIntegerArray, and a neighbor joins the next wavefront when its count
+ * reaches zero. Every vertex in a wavefront depends only on earlier ones, so a
+ * scheduler can run each wavefront in parallel.
+ *
+ * Each wavefront is sorted by vertex id, so the result does not depend on how the work
+ * was split. If the graph has a cycle, every vertex on or behind it is left out, just as
+ * with Graph.topoSort.
+ *
+ * @author Maxwe// and Ashley Pedersen
+ * @version March 3, 2025
+ * @param <T> the type of values stored in the vertices
+ */
+public class ParallelTopologicalSort<T> {
+    private static final int GRAIN = 2048;
+
+    private final FrozenGraph<T> graph;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a sort over the given snapshot that runs in the common pool.
+     *
+     * @param graph the snapshot to sort
+     */
+    public ParallelTopologicalSort(FrozenGraph<T> graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a sort over the given snapshot that runs in the given pool.
+     *
+     * @param graph the snapshot to sort
+     * @param pool the pool to process wavefronts in
+     */
+    public ParallelTopologicalSort(FrozenGraph<T> graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+    }
+
+    /**
+     * Implementation of topological sort. If the graph has a cycle, the result leaves
+     * out every vertex on or behind it, so it is shorter than the graph.
+     *
+     * @return the vertices in topological order
+     */
+    public List<T> sort() {
+        List<T> result = new ArrayList<>(graph.size());
+        for (List<T> level : levels())
+            result.addAll(level);
+        return result;
+    }
+
+    /**
+     * Sorts the vertices into wavefronts. If the graph has a cycle, every vertex on or
+     * behind it is left out.
+     *
+     * @return the wavefronts in order, each a list of vertices
+     */
+    public List<List<T>> levels() {
+        int n = graph.size();
+        int[] inOffsets = graph.inOffsets();
+        AtomicIntegerArray indegree = new AtomicIntegerArray(n);
+        int[] wave = new int[n];
+        int size = 0;
+        for (int v = 0; v < n; v++) {
+            indegree.set(v, inOffsets[v + 1] - inOffsets[v]);
+            if (indegree.get(v) == 0)
+                wave[size++] = v;
+        }
+
+        List<List<T>> result = new ArrayList<>();
+        int[] next = new int[n];
+        while (size > 0) {
+            List<T> level = new ArrayList<>(size);
+            for (int i = 0; i < size; i++)
+                level.add(graph.vertex(wave[i]));
+            result.add(level);
+
+            AtomicInteger tail = new AtomicInteger();
+            pool.invoke(new Release(wave, 0, size, indegree, next, tail));
+            size = tail.get();
+            Arrays.sort(next, 0, size);
+            int[] swap = wave;
+            wave = next;
+            next = swap;
+        }
+        return result;
+    }
+
+    /**
+     * Takes a slice of the wavefront's vertices off their neighbors' counts.
+     */
+    private class Release extends RecursiveAction {
+        private final int[] wave;
+        private final int lo;
+        private final int hi;
+        private final AtomicIntegerArray indegree;
+        private final int[] next;
+        private final AtomicInteger tail;
+
+        Release(int[] wave, int lo, int hi, AtomicIntegerArray indegree, int[] next, AtomicInteger tail) {
+            this.wave = wave;
+            this.lo = lo;
+            this.hi = hi;
+            this.indegree = indegree;
+            this.next = next;
+            this.tail = tail;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo > GRAIN) {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new Release(wave, lo, mid, indegree, next, tail),
+                        new Release(wave, mid, hi, indegree, next, tail));
+                return;
+            }
+            int[] offsets = graph.offsets();
+            int[] targets = graph.targets();
+            FrontierBuffer found = new FrontierBuffer();
+            for (int i = lo; i < hi; i++) {
+                int v = wave[i];
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                    if (indegree.decrementAndGet(targets[e]) == 0)
+                        found.add(targets[e]);
+                }
+            }
+            found.publish(next, tail);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package assign10;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class PrimitiveMaxHeapTest {
+
+	@Test
+	void testIntExtractOrder() {
+		IntMaxHeap heap = new IntMaxHeap();
+		int[] values = new Random(1).ints(500, -50, 50).toArray();
+		for (int v : values)
+			heap.add(v);
+		Arrays.sort(values);
+		for (int i = values.length - 1; i >= 0; i--)
+			assertEquals(values[i], heap.extractMax());
+		assertTrue(heap.isEmpty());
+	}
+
+	@Test
+	void testLongExtractOrder() {
+		LongMaxHeap heap = new LongMaxHeap(0);
+		long[] values = new Random(2).longs(500).toArray();
+		for (long v : values)
+			heap.add(v);
+		Arrays.sort(values);
+		for (int i = values.length - 1; i >= 0; i--)
+			assertEquals(values[i], heap.extractMax());
+		assertTrue(heap.isEmpty());
+	}
+
+	@Test
+	void testDoubleExtractOrder() {
+		DoubleMaxHeap heap = new DoubleMaxHeap();
+		double[] values = new Random(3).doubles(500).toArray();
+		for (double v : values)
+			heap.add(v);
+		heap.add(Double.NaN);
+		assertTrue(Double.isNaN(heap.extractMax()));
+		Arrays.sort(values);
+		for (int i = values.length - 1; i >= 0; i--)
+			assertEquals(values[i], heap.extractMax());
+	}
+
+	@Test
+	void testPeekAndExtractEmpty() {
+		LongMaxHeap heap = new LongMaxHeap();
+		assertThrows(NoSuchElementException.class, () -> heap.peek());
+		assertThrows(NoSuchElementException.class, () -> heap.extractMax());
+	}
+
+	@Test
+	void testToArrayRootFirst() {
+		LongMaxHeap heap = new LongMaxHeap();
+		heap.add(5);
+		heap.add(3);
+		heap.add(6);
+		heap.add(7);
+		assertArrayEquals(new long[] { 7, 6, 5, 3 }, heap.toArray());
+	}
+
+	@Test
+	void testClearKeepsWorking() {
+		IntMaxHeap heap = new IntMaxHeap(4);
+		for (int i = 0; i < 10; i++)
+			heap.add(i);
+		heap.clear();
+		assertEquals(0, heap.size());
+		heap.add(3);
+		assertEquals(3, heap.peek());
+	}
+}
@@ -1,6 +1,8 @@
 package assign10;
 
+import java.util.Collection;
 import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 
 /**
  * This interface represents the priority queue abstract data type,
@@ -23,6 +25,17 @@ public interface PriorityQueue<E> {
 	 * @param item
 	 */
 	public void add(E item);
+
+	/**
+	 * Adds all of the given items to this priority queue.
+	 * O(k log N) by default; implementations may rebuild in O(N + k)
+	 * 
+	 * @param items
+	 */
+	public default void addAll(Collection<? extends E> items) {
+		for (E item : items)
+			add(item);
+	}
 	
 	/**
 	 * Returns, but does not remove, the maximum item this priority queue.
@@ -42,6 +55,55 @@ public interface PriorityQueue<E> {
 	 */
 	public E extractMax() throws NoSuchElementException;
 
+	/**
+	 * Removes up to n of the largest items and adds them to sink, largest first.
+	 * O(n log N) by default
+	 * 
+	 * @param n the most items to extract
+	 * @param sink the collection to add the extracted items to
+	 * @return the number of items extracted
+	 * @throws IllegalArgumentException if n is negative
+	 */
+	public default int extractMax(int n, Collection<? super E> sink) {
+		if (n < 0)
+			throw new IllegalArgumentException();
+		int count = 0;
+		while (count < n && !isEmpty()) {
+			sink.add(extractMax());
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Removes every item and adds them to sink, largest first.
+	 * O(N log N)
+	 * 
+	 * @param sink the collection to add the extracted items to
+	 * @return the number of items extracted
+	 */
+	public default int drainTo(Collection<? super E> sink) {
+		return extractMax(size(), sink);
+	}
+
+	/**
+	 * Removes the largest items for as long as they satisfy condition and adds them
+	 * to sink, largest first. Stops at the first item that fails, leaving it in place.
+	 * O(k log N) for k items extracted
+	 * 
+	 * @param condition the test each maximum item must pass to be extracted
+	 * @param sink the collection to add the extracted items to
+	 * @return the number of items extracted
+	 */
+	public default int extractWhile(Predicate<? super E> condition, Collection<? super E> sink) {
+		int count = 0;
+		while (!isEmpty() && condition.test(peek())) {
+			sink.add(extractMax());
+			count++;
+		}
+		return count;
+	}
+
 	/**
 	 * Returns the number of items in this priority queue.
 	 * O(1)
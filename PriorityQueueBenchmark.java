@@ -0,0 +1,201 @@
+package assign10;
+
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmarks comparing BinaryMaxHeap against java.util.PriorityQueue (reversed,
+ * so both are max queues) across queue sizes, key distributions and workloads.
+ * 
+ * Needs jmh-core and jmh-generator-annprocess on the classpath, the same way the
+ * tests need JUnit. Run main to get ops/s for every combination plus the GC
+ * profiler's gc.alloc.rate and gc.alloc.rate.norm (bytes allocated per operation);
+ * keep its output from before a heap change to compare against after.
+ * 
+ * fillAndDrain: add N keys to an empty queue, then extract all N. One op is the
+ * whole cycle.
+ * steadyState: one add followed by one extractMax on a queue holding N keys.
+ * peek: peek at a queue holding N keys.
+ * @author Maxwell and Cooper
+ * @version April 6, 2025
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+@State(Scope.Thread)
+public class PriorityQueueBenchmark {
+
+	/**
+	 * How the benchmark keys are generated.
+	 */
+	public enum Distribution {
+		/** Uniform over all ints. */
+		RANDOM,
+		/** 0, 1, 2, ... so every add sifts all the way up. */
+		ASCENDING,
+		/** N - 1, N - 2, ... so every add stays at the bottom. */
+		DESCENDING,
+		/** Uniform over 16 values. */
+		DUPLICATES
+	}
+
+	/**
+	 * The operations both implementations are driven through.
+	 */
+	private interface MaxQueue {
+		void add(Integer item);
+
+		Integer extractMax();
+
+		Integer peek();
+
+		void clear();
+	}
+
+	@Param({ "1000", "10000", "100000", "1000000", "10000000" })
+	public int size;
+
+	@Param({ "RANDOM", "ASCENDING", "DESCENDING", "DUPLICATES" })
+	public Distribution distribution;
+
+	@Param({ "BinaryMaxHeap", "java.util.PriorityQueue" })
+	public String implementation;
+
+	private Integer[] keys;
+	private MaxQueue queue;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void generateKeys() {
+		Random rng = new Random(2420);
+		keys = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			switch (distribution) {
+			case RANDOM:
+				keys[i] = rng.nextInt();
+				break;
+			case ASCENDING:
+				keys[i] = i;
+				break;
+			case DESCENDING:
+				keys[i] = size - 1 - i;
+				break;
+			default:
+				keys[i] = rng.nextInt(16);
+				break;
+			}
+		}
+		queue = newQueue(implementation);
+	}
+
+	@Setup(Level.Iteration)
+	public void fill() {
+		queue.clear();
+		for (Integer key : keys)
+			queue.add(key);
+		next = 0;
+	}
+
+	@Benchmark
+	public void fillAndDrain(Blackhole bh) {
+		queue.clear();
+		for (Integer key : keys)
+			queue.add(key);
+		for (int i = 0; i < keys.length; i++)
+			bh.consume(queue.extractMax());
+	}
+
+	@Benchmark
+	public Integer steadyState() {
+		queue.add(keys[next]);
+		if (++next == keys.length)
+			next = 0;
+		return queue.extractMax();
+	}
+
+	@Benchmark
+	public Integer peek() {
+		return queue.peek();
+	}
+
+	/**
+	 * Wraps the named implementation as a MaxQueue.
+	 * @param name BinaryMaxHeap or java.util.PriorityQueue
+	 * @return The wrapped queue
+	 */
+	private static MaxQueue newQueue(String name) {
+		if (name.equals("BinaryMaxHeap")) {
+			BinaryMaxHeap<Integer> heap = new BinaryMaxHeap<>();
+			return new MaxQueue() {
+				public void add(Integer item) {
+					heap.add(item);
+				}
+
+				public Integer extractMax() {
+					return heap.extractMax();
+				}
+
+				public Integer peek() {
+					return heap.peek();
+				}
+
+				public void clear() {
+					heap.clear();
+				}
+			};
+		}
+		java.util.PriorityQueue<Integer> jdk = new java.util.PriorityQueue<>(Collections.reverseOrder());
+		return new MaxQueue() {
+			public void add(Integer item) {
+				jdk.add(item);
+			}
+
+			public Integer extractMax() {
+				return jdk.remove();
+			}
+
+			public Integer peek() {
+				return jdk.element();
+			}
+
+			public void clear() {
+				jdk.clear();
+			}
+		};
+	}
+
+	/**
+	 * Runs every benchmark with the GC profiler attached.
+	 * @param args Unused
+	 * @throws RunnerException if JMH fails to run
+	 */
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(PriorityQueueBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,43 @@
+package assign10;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads the priority of a fixed-width record straight out of a buffer, without
+ * copying the record into an object first. A larger key is a higher priority.
+ * 
+ * @author Maxwell and Cooper
+ * @version April 6, 2025
+ */
+@FunctionalInterface
+public interface RecordKey {
+
+	/**
+	 * Returns the key of the record starting at offset.
+	 * 
+	 * @param buffer the buffer holding the record
+	 * @param offset the absolute index of the record's first byte
+	 * @return the record's key
+	 */
+	public long key(ByteBuffer buffer, int offset);
+
+	/**
+	 * Returns a RecordKey that reads a long at a fixed position within the record.
+	 * 
+	 * @param field byte position of the key within each record
+	 * @return the key extractor
+	 */
+	public static RecordKey longAt(int field) {
+		return (buffer, offset) -> buffer.getLong(offset + field);
+	}
+
+	/**
+	 * Returns a RecordKey that reads an int at a fixed position within the record.
+	 * 
+	 * @param field byte position of the key within each record
+	 * @return the key extractor
+	 */
+	public static RecordKey intAt(int field) {
+		return (buffer, offset) -> buffer.getInt(offset + field);
+	}
+}
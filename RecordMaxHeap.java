@@ -0,0 +1,346 @@
+package assign10;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary Max Heap of fixed-width records stored outside the Java heap, implementing
+ * the Priority Queue interface with records passed as byte arrays.
+ * 
+ * The records live in a direct ByteBuffer, or in a memory-mapped file that can be
+ * reopened after a restart. Priorities are read from the raw bytes by a RecordKey,
+ * so the garbage collector never sees the records at all. The layout and percolate
+ * logic match BinaryMaxHeap: record i (1-indexed) has its parent at i / 2 and its
+ * children at 2i and 2i + 1, and sifting moves a hole instead of swapping.
+ * 
+ * The PriorityQueue methods copy each record into or out of a byte[]. The
+ * add(ByteBuffer), peek(ByteBuffer) and extractMax(ByteBuffer) overloads copy straight
+ * between buffers and allocate nothing.
+ * 
+ * The buffer starts with a 16 byte header holding a magic number, the record size
+ * and the current size, so a mapped file knows its own contents. A mapped file can
+ * hold at most about 2 GB of records, the limit of a single mapping.
+ * @author Maxwell and Cooper
+ * @version April 6, 2025
+ */
+public class RecordMaxHeap implements PriorityQueue<byte[]>, Closeable {
+	private static final int MAGIC = 0x48454150;
+	private static final int HEADER = 16;
+	private static final int SIZE_FIELD = 8;
+
+	private final int recordSize;
+	private final RecordKey key;
+	private final FileChannel channel;
+	private final ByteBuffer hold;
+	private ByteBuffer buffer;
+	private int capacity;
+	private int size;
+
+	/**
+	 * Creates an empty heap backed by a direct buffer outside the Java heap.
+	 * @param recordSize Width of every record in bytes
+	 * @param capacity Number of records before the buffer grows
+	 * @param key Reads a record's priority from its bytes
+	 * @return The new heap
+	 * @throws IllegalArgumentException if recordSize is not positive or capacity is negative
+	 */
+	public static RecordMaxHeap offHeap(int recordSize, int capacity, RecordKey key) {
+		checkSizes(recordSize, capacity);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(HEADER + capacity * recordSize);
+		return new RecordMaxHeap(buffer, null, recordSize, capacity, key, true);
+	}
+
+	/**
+	 * Opens a heap backed by a memory-mapped file. If the file already holds a heap
+	 * with the same record size it is reopened with its records intact; otherwise
+	 * the file is initialized as an empty heap.
+	 * @param file The file to map, created if missing
+	 * @param recordSize Width of every record in bytes
+	 * @param capacity Number of records to map room for; grown as needed
+	 * @param key Reads a record's priority from its bytes
+	 * @return The opened heap
+	 * @throws IOException if the file cannot be opened or mapped
+	 * @throws IllegalArgumentException if the file holds a heap with a different record size
+	 */
+	public static RecordMaxHeap mapped(Path file, int recordSize, int capacity, RecordKey key) throws IOException {
+		checkSizes(recordSize, capacity);
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+		try {
+			boolean fresh = channel.size() < HEADER;
+			if (!fresh) {
+				MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER);
+				if (header.getInt(0) != MAGIC)
+					throw new IllegalArgumentException(file + " does not hold a RecordMaxHeap");
+				if (header.getInt(4) != recordSize)
+					throw new IllegalArgumentException(file + " holds records of " + header.getInt(4) + " bytes");
+				capacity = Math.max(capacity, (int) ((channel.size() - HEADER) / recordSize));
+			}
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER + (long) capacity * recordSize);
+			return new RecordMaxHeap(buffer, channel, recordSize, capacity, key, fresh);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	private RecordMaxHeap(ByteBuffer buffer, FileChannel channel, int recordSize, int capacity, RecordKey key, boolean fresh) {
+		this.buffer = buffer;
+		this.channel = channel;
+		this.recordSize = recordSize;
+		this.capacity = capacity;
+		this.key = key;
+		hold = ByteBuffer.allocateDirect(recordSize);
+		if (fresh) {
+			buffer.putInt(0, MAGIC);
+			buffer.putInt(4, recordSize);
+			buffer.putInt(SIZE_FIELD, 0);
+		}
+		size = buffer.getInt(SIZE_FIELD);
+	}
+
+	private static void checkSizes(int recordSize, int capacity) {
+		if (recordSize <= 0 || capacity < 0)
+			throw new IllegalArgumentException();
+		if (HEADER + (long) capacity * recordSize > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Heap would exceed a single 2 GB buffer");
+	}
+
+	/**
+	 * Returns the width of every record in bytes.
+	 */
+	public int recordSize() {
+		return recordSize;
+	}
+
+	/**
+	 * Adds the given record to this priority queue. O(1) in the average case, O(log
+	 * N) in the worst case
+	 * 
+	 * @param item a record of exactly recordSize bytes
+	 * @throws IllegalArgumentException if the record is the wrong width
+	 */
+	public void add(byte[] item) {
+		if (item.length != recordSize)
+			throw new IllegalArgumentException("Record must be " + recordSize + " bytes");
+		hold.put(0, item);
+		percolateUp();
+	}
+
+	/**
+	 * Adds the next recordSize bytes of src, from its position, to this priority
+	 * queue, advancing the position. Allocates nothing. O(log N)
+	 * 
+	 * @param src the buffer to read the record from
+	 */
+	public void add(ByteBuffer src) {
+		hold.put(0, src, src.position(), recordSize);
+		src.position(src.position() + recordSize);
+		percolateUp();
+	}
+
+	/**
+	 * Returns, but does not remove, a copy of the maximum record. O(1)
+	 * 
+	 * @return the maximum record
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public byte[] peek() throws NoSuchElementException {
+		if (size == 0)
+			throw new NoSuchElementException();
+		byte[] record = new byte[recordSize];
+		buffer.get(offset(1), record);
+		return record;
+	}
+
+	/**
+	 * Copies the maximum record into dst at its position, advancing the position,
+	 * without removing it. Allocates nothing. O(1)
+	 * 
+	 * @param dst the buffer to write the record to
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public void peek(ByteBuffer dst) throws NoSuchElementException {
+		if (size == 0)
+			throw new NoSuchElementException();
+		dst.put(dst.position(), buffer, offset(1), recordSize);
+		dst.position(dst.position() + recordSize);
+	}
+
+	/**
+	 * Returns the key of the maximum record. O(1)
+	 * 
+	 * @return the maximum key
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public long peekKey() throws NoSuchElementException {
+		if (size == 0)
+			throw new NoSuchElementException();
+		return key.key(buffer, offset(1));
+	}
+
+	/**
+	 * Returns and removes a copy of the maximum record. O(log N)
+	 * 
+	 * @return the maximum record
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public byte[] extractMax() throws NoSuchElementException {
+		byte[] record = peek();
+		removeRoot();
+		return record;
+	}
+
+	/**
+	 * Moves the maximum record into dst at its position, advancing the position.
+	 * Allocates nothing. O(log N)
+	 * 
+	 * @param dst the buffer to write the record to
+	 * @throws NoSuchElementException if this priority queue is empty
+	 */
+	public void extractMax(ByteBuffer dst) throws NoSuchElementException {
+		peek(dst);
+		removeRoot();
+	}
+
+	/**
+	 * Returns the number of items in this priority queue. O(1)
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if this priority queue is empty, false otherwise. O(1)
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Empties this priority queue of items. O(1)
+	 */
+	public void clear() {
+		setSize(0);
+	}
+
+	/**
+	 * Creates and returns an array of copies of the records in this priority queue,
+	 * in the same order they appear in the buffer, with the root at index 0. O(N)
+	 */
+	public Object[] toArray() {
+		Object[] array = new Object[size];
+		for (int i = 0; i < size; i++) {
+			byte[] record = new byte[recordSize];
+			buffer.get(offset(i + 1), record);
+			array[i] = record;
+		}
+		return array;
+	}
+
+	/**
+	 * Writes any changes to a mapped file through to the storage device. Does
+	 * nothing for an off-heap buffer.
+	 */
+	public void force() {
+		if (buffer instanceof MappedByteBuffer)
+			((MappedByteBuffer) buffer).force();
+	}
+
+	/**
+	 * Flushes and closes the mapped file, if there is one. The heap must not be
+	 * used afterwards.
+	 * 
+	 * @throws IOException if the file cannot be closed
+	 */
+	public void close() throws IOException {
+		force();
+		if (channel != null)
+			channel.close();
+	}
+
+	/**
+	 * Places the record in hold at the end of the heap and percolates it up.
+	 */
+	private void percolateUp() {
+		if (size == capacity)
+			grow();
+		setSize(size + 1);
+		long holdKey = key.key(hold, 0);
+		int index = size;
+		while (index > 1 && key.key(buffer, offset(index / 2)) < holdKey) {
+			buffer.put(offset(index), buffer, offset(index / 2), recordSize);
+			index = index / 2;
+		}
+		buffer.put(offset(index), hold, 0, recordSize);
+	}
+
+	/**
+	 * Moves the last record into the root and percolates it down.
+	 */
+	private void removeRoot() {
+		hold.put(0, buffer, offset(size), recordSize);
+		setSize(size - 1);
+		if (size == 0)
+			return;
+		long holdKey = key.key(hold, 0);
+		int index = 1;
+		int child;
+		while ((child = index * 2) <= size) {
+			long childKey = key.key(buffer, offset(child));
+			if (child < size) {
+				long rightKey = key.key(buffer, offset(child + 1));
+				if (childKey < rightKey) {
+					child++;
+					childKey = rightKey;
+				}
+			}
+			if (childKey <= holdKey)
+				break;
+			buffer.put(offset(index), buffer, offset(child), recordSize);
+			index = child;
+		}
+		buffer.put(offset(index), hold, 0, recordSize);
+	}
+
+	/**
+	 * Doubles the capacity, copying into a larger direct buffer or remapping a
+	 * larger region of the file.
+	 */
+	private void grow() {
+		int newCapacity = Math.max(1, capacity * 2);
+		checkSizes(recordSize, newCapacity);
+		int bytes = HEADER + newCapacity * recordSize;
+		if (channel == null) {
+			ByteBuffer grown = ByteBuffer.allocateDirect(bytes);
+			grown.put(0, buffer, 0, HEADER + size * recordSize);
+			buffer = grown;
+		} else {
+			try {
+				force();
+				buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+			} catch (IOException e) {
+				throw new IllegalStateException("Could not grow mapped heap", e);
+			}
+		}
+		capacity = newCapacity;
+	}
+
+	private void setSize(int newSize) {
+		size = newSize;
+		buffer.putInt(SIZE_FIELD, newSize);
+	}
+
+	/**
+	 * Returns the absolute byte offset of record i, 1-indexed.
+	 */
+	private int offset(int i) {
+		return HEADER + (i - 1) * recordSize;
+	}
+}
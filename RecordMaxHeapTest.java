@@ -0,0 +1,92 @@
+package assign10;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RecordMaxHeapTest {
+
+	/**
+	 * A 16 byte record: a long key followed by a long payload id.
+	 */
+	private static byte[] record(long key, long payload) {
+		return ByteBuffer.allocate(16).putLong(key).putLong(payload).array();
+	}
+
+	private static long keyOf(byte[] record) {
+		return ByteBuffer.wrap(record).getLong(0);
+	}
+
+	@Test
+	void testOffHeapOrder() {
+		RecordMaxHeap heap = RecordMaxHeap.offHeap(16, 0, RecordKey.longAt(0));
+		Random rng = new Random(13);
+		List<Long> keys = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			long key = rng.nextInt(500);
+			keys.add(key);
+			heap.add(record(key, i));
+		}
+		keys.sort(Collections.reverseOrder());
+		assertEquals(keys.get(0), heap.peekKey());
+		for (long key : keys)
+			assertEquals(key, keyOf(heap.extractMax()));
+		assertTrue(heap.isEmpty());
+	}
+
+	@Test
+	void testPayloadTravelsWithKey() {
+		RecordMaxHeap heap = RecordMaxHeap.offHeap(16, 4, RecordKey.longAt(0));
+		heap.add(record(5, 50));
+		heap.add(record(9, 90));
+		heap.add(record(1, 10));
+		ByteBuffer dst = ByteBuffer.allocateDirect(16);
+		heap.extractMax(dst);
+		assertEquals(16, dst.position());
+		assertEquals(9, dst.getLong(0));
+		assertEquals(90, dst.getLong(8));
+		assertEquals(2, heap.size());
+	}
+
+	@Test
+	void testWrongWidthRejected() {
+		RecordMaxHeap heap = RecordMaxHeap.offHeap(16, 4, RecordKey.longAt(0));
+		assertThrows(IllegalArgumentException.class, () -> heap.add(new byte[8]));
+		assertThrows(NoSuchElementException.class, () -> heap.extractMax());
+	}
+
+	@Test
+	void testMappedSurvivesReopen(@TempDir Path dir) throws IOException {
+		Path file = dir.resolve("queue.heap");
+		try (RecordMaxHeap heap = RecordMaxHeap.mapped(file, 16, 2, RecordKey.longAt(0))) {
+			for (int i = 0; i < 100; i++)
+				heap.add(record(i, -i));
+			heap.extractMax();
+		}
+		try (RecordMaxHeap heap = RecordMaxHeap.mapped(file, 16, 2, RecordKey.longAt(0))) {
+			assertEquals(99, heap.size());
+			for (int i = 98; i >= 0; i--) {
+				byte[] r = heap.extractMax();
+				assertEquals(i, keyOf(r));
+				assertEquals(-i, ByteBuffer.wrap(r).getLong(8));
+			}
+		}
+	}
+
+	@Test
+	void testMappedRecordSizeMismatch(@TempDir Path dir) throws IOException {
+		Path file = dir.resolve("queue.heap");
+		RecordMaxHeap.mapped(file, 16, 2, RecordKey.longAt(0)).close();
+		assertThrows(IllegalArgumentException.class, () -> RecordMaxHeap.mapped(file, 8, 2, RecordKey.longAt(0)));
+	}
+}
@@ -0,0 +1,115 @@
+package assign10;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the K largest items seen in a stream, using a fixed amount of memory.
+ * 
+ * The retained items sit in a BinaryMaxHeap with the comparator reversed, so its
+ * root is the smallest item kept: the threshold a new item has to beat. Once K
+ * items are held, an incoming item costs one comparison against that threshold if
+ * it is dropped, and one replaceMax if it is kept. The heap is created with room
+ * for exactly K items, so its backing array never grows.
+ * @author Maxwell and Cooper
+ * @version April 6, 2025
+ */
+public class TopKCollector<E> implements Consumer<E> {
+	private final Comparator<? super E> cmp;
+	private final BinaryMaxHeap<E> retained;
+	private final int k;
+
+	/**
+	 * Constructor which takes the number of items to keep and a custom comparator
+	 * @param k Number of items to keep
+	 * @param cmp Custom Comparator; the largest items by cmp are kept
+	 * @throws IllegalArgumentException if k is less than 1
+	 */
+	public TopKCollector(int k, Comparator<? super E> cmp) {
+		if (k < 1)
+			throw new IllegalArgumentException("k must be at least 1");
+		this.cmp = cmp;
+		this.k = k;
+		retained = new BinaryMaxHeap<>(cmp.reversed(), k);
+	}
+
+	/**
+	 * Constructor which takes the number of items to keep, using natural ordering
+	 * @param k Number of items to keep
+	 * @throws IllegalArgumentException if k is less than 1
+	 */
+	@SuppressWarnings("unchecked")
+	public TopKCollector(int k) {
+		this(k, (Comparator<? super E>) Comparator.naturalOrder());
+	}
+
+	/**
+	 * Offers an item to the collector. O(1) if the item is dropped, O(log K) if kept
+	 * 
+	 * @param item the item to offer
+	 * @return true if the item is now among the retained K, false if it was dropped
+	 */
+	public boolean offer(E item) {
+		if (retained.size() < k) {
+			retained.add(item);
+			return true;
+		}
+		if (cmp.compare(item, retained.peek()) <= 0)
+			return false;
+		retained.replaceMax(item);
+		return true;
+	}
+
+	/**
+	 * Same as offer, so the collector can be passed to forEach.
+	 * 
+	 * @param item the item to offer
+	 */
+	public void accept(E item) {
+		offer(item);
+	}
+
+	/**
+	 * Returns the number of items currently retained, at most K. O(1)
+	 */
+	public int size() {
+		return retained.size();
+	}
+
+	/**
+	 * Returns the smallest retained item, which an offered item has to beat once K
+	 * items are held. O(1)
+	 * 
+	 * @return the smallest retained item
+	 * @throws java.util.NoSuchElementException if nothing has been offered yet
+	 */
+	public E threshold() {
+		return retained.peek();
+	}
+
+	/**
+	 * Returns the retained items from largest to smallest. The collector is left
+	 * unchanged and can keep accepting items. O(K log K)
+	 * 
+	 * @return a new list of the retained items in descending order
+	 */
+	@SuppressWarnings("unchecked")
+	public List<E> toSortedList() {
+		Object[] items = retained.toArray();
+		Arrays.sort(items, (a, b) -> cmp.compare((E) b, (E) a));
+		List<E> result = new ArrayList<>(items.length);
+		for (Object item : items)
+			result.add((E) item);
+		return result;
+	}
+
+	/**
+	 * Empties the collector so it can be reused for another stream. O(1)
+	 */
+	public void clear() {
+		retained.clear();
+	}
+}
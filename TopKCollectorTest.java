@@ -0,0 +1,61 @@
+package assign10;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TopKCollectorTest {
+
+	@Test
+	void testKeepsLargestInOrder() {
+		TopKCollector<Integer> top = new TopKCollector<>(5);
+		List<Integer> all = new ArrayList<>();
+		Random rng = new Random(42);
+		for (int i = 0; i < 10000; i++) {
+			int value = rng.nextInt(1000);
+			all.add(value);
+			top.offer(value);
+		}
+		all.sort(Collections.reverseOrder());
+		assertEquals(all.subList(0, 5), top.toSortedList());
+		assertEquals(all.get(4), top.threshold());
+	}
+
+	@Test
+	void testFewerThanK() {
+		TopKCollector<Integer> top = new TopKCollector<>(10);
+		top.offer(3);
+		top.offer(7);
+		top.offer(5);
+		assertEquals(3, top.size());
+		assertEquals(List.of(7, 5, 3), top.toSortedList());
+	}
+
+	@Test
+	void testOfferReportsDrops() {
+		TopKCollector<Integer> top = new TopKCollector<>(2);
+		assertTrue(top.offer(5));
+		assertTrue(top.offer(6));
+		assertFalse(top.offer(1));
+		assertFalse(top.offer(5));
+		assertTrue(top.offer(9));
+		assertEquals(List.of(9, 6), top.toSortedList());
+	}
+
+	@Test
+	void testCustomComparatorAndForEach() {
+		TopKCollector<String> shortest = new TopKCollector<>(2, (a, b) -> b.length() - a.length());
+		List.of("aaaa", "b", "ccc", "dd").forEach(shortest);
+		assertEquals(List.of("b", "dd"), shortest.toSortedList());
+	}
+
+	@Test
+	void testInvalidK() {
+		assertThrows(IllegalArgumentException.class, () -> new TopKCollector<Integer>(0));
+	}
+}